@@ -0,0 +1,38 @@
+package com.example.spring_boot_jwt_boilerplate.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.Arrays;
+
+/**
+ * 스레드 수별로 전체 벤치마크를 반복 실행하고 JSON 결과를 남기는 러너
+ * 사용법: ./gradlew jmhSuite -PjmhThreadCounts=1,4,16 [-PjmhIncludes=JwtTokenProvider]
+ * 결과: build/results/jmh/suite-t{스레드수}.json
+ */
+public class AuthBenchmarkSuite {
+
+    public static void main(String[] args) throws Exception {
+        String include = args.length > 1 ? args[1] : ".*";
+        int[] threadCounts = args.length > 0
+                ? Arrays.stream(args[0].split(",")).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1, 4, Runtime.getRuntime().availableProcessors()};
+
+        File outputDir = new File("build/results/jmh");
+        outputDir.mkdirs();
+
+        for (int threads : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .include("com\\.example\\.spring_boot_jwt_boilerplate\\..*" + include + ".*")
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(new File(outputDir, "suite-t" + threads + ".json").getPath())
+                    .build();
+
+            new Runner(options).run();
+        }
+    }
+}
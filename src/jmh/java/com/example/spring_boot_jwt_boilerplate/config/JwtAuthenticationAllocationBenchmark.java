@@ -0,0 +1,85 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import com.example.spring_boot_jwt_boilerplate.service.revocation.TokenRevocationRegistry;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 요청 1건당 힙 할당량(bytes/op) 측정
+ * gc 프로파일러의 gc.alloc.rate.norm 값을 비교합니다.
+ * 사용법: ./gradlew jmh -PjmhIncludes=JwtAuthenticationAllocation -PjmhProfilers=gc
+ * 1. legacyPath: 이전 방식 (substring + UsernamePasswordAuthenticationToken + 빈 권한 목록)
+ * 2. filterPath: 현재 JwtAuthenticationFilter 전체 통과 (캐시 on/off)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtAuthenticationAllocationBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"false", "true"})
+    boolean cacheEnabled;
+
+    private VerifiedTokenCache cache;
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider provider = JwtBenchmarkSupport.tokenProvider();
+        cache = new VerifiedTokenCache(provider, cacheEnabled, 10_000);
+        filter = JwtBenchmarkSupport.filter(cache, new TokenRevocationRegistry());
+        authorization = "Bearer " + provider.createAccessToken(JwtBenchmarkSupport.member(16));
+
+        request = new MockHttpServletRequest("GET", "/api/auth/test");
+        request.addHeader("Authorization", authorization);
+        response = new MockHttpServletResponse();
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object legacyPath() {
+        String token = authorization.substring(7);
+        VerifiedToken verifiedToken = cache.verify(token).getToken();
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(verifiedToken.getSubject(), null, Collections.emptyList());
+        authentication.setDetails(verifiedToken);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        return authentication;
+    }
+
+    @Benchmark
+    public int filterPath() throws Exception {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationAllocationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import com.example.spring_boot_jwt_boilerplate.service.revocation.TokenRevocationRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mock 서블릿 요청으로 JwtAuthenticationFilter 한 번 통과 비용 측정
+ * revokedEntries: 로컬 폐기 목록 크기 (0 = 폐기 없음), authenticatedRequestLatency 로 p99 추가 지연 확인
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @State(Scope.Benchmark)
+    public static class FilterState {
+
+        @Param({"false", "true"})
+        boolean cacheEnabled;
+
+        @Param({"16", "256"})
+        int emailLength;
+
+        @Param({"0", "100000"})
+        int revokedEntries;
+
+        JwtAuthenticationFilter filter;
+        String authorization;
+
+        @Setup
+        public void setUp() {
+            JwtTokenProvider provider = JwtBenchmarkSupport.tokenProvider();
+            TokenRevocationRegistry registry = new TokenRevocationRegistry();
+            long expiresAt = System.currentTimeMillis() + 3_600_000L;
+            for (int i = 0; i < revokedEntries; i++) {
+                registry.revokeToken("revoked-" + i, expiresAt);
+                registry.revokeUser("revoked" + i + "@test.com", System.currentTimeMillis());
+            }
+
+            filter = JwtBenchmarkSupport.filter(new VerifiedTokenCache(provider, cacheEnabled, 10_000), registry);
+            authorization = "Bearer " + provider.createAccessToken(JwtBenchmarkSupport.member(emailLength));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RequestState {
+
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+
+        @Setup
+        public void setUp(FilterState filterState) {
+            request = new MockHttpServletRequest("GET", "/api/auth/test");
+            request.addHeader("Authorization", filterState.authorization);
+            response = new MockHttpServletResponse();
+        }
+
+        @TearDown(Level.Invocation)
+        public void clearContext() {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public int authenticatedRequest(FilterState filterState, RequestState requestState) throws Exception {
+        filterState.filter.doFilter(requestState.request, requestState.response, NO_OP_CHAIN);
+        return requestState.response.getStatus();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int authenticatedRequestLatency(FilterState filterState, RequestState requestState) throws Exception {
+        filterState.filter.doFilter(requestState.request, requestState.response, NO_OP_CHAIN);
+        return requestState.response.getStatus();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorResponseWriter;
+import com.example.spring_boot_jwt_boilerplate.service.revocation.TokenRevocationRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 벤치마크용 JwtTokenProvider 생성 헬퍼 (스프링 컨텍스트 없이 사용)
+ */
+public final class JwtBenchmarkSupport {
+
+    public static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256-signing";
+
+    private JwtBenchmarkSupport() {
+    }
+
+    public static JwtTokenProvider tokenProvider() {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "accessTokenValidityInMilliseconds", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "refreshTokenValidityInMilliseconds", 86_400_000L);
+        provider.init();
+        return provider;
+    }
+
+    /**
+     * 스프링 컨텍스트 없이 조립한 인증 필터
+     */
+    public static JwtAuthenticationFilter filter(VerifiedTokenCache cache, TokenRevocationRegistry registry) {
+        return new JwtAuthenticationFilter(cache, registry,
+                new JwtFilterMetrics(new SimpleMeterRegistry()), new ErrorResponseWriter(new ObjectMapper()));
+    }
+
+    /**
+     * 토큰 발급용 principal
+     */
+    public static AuthenticatedMember member(int emailLength) {
+        return new AuthenticatedMember(1L, email(emailLength), Role.USER);
+    }
+
+    /**
+     * claim 크기 조절용 이메일 (local-part 길이로 조절)
+     */
+    public static String email(int length) {
+        return "u".repeat(Math.max(1, length - 9)) + "@test.com";
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorCode;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorResponseWriter;
+import com.example.spring_boot_jwt_boilerplate.service.revocation.TokenRevocationRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 무효 토큰 폭주 시 거절 경로 처리량 (4 스레드 동시 요청)
+ * OncePerRequestFilter 가 요청 속성을 쓰므로 요청 / 필터는 스레드별로 준비
+ * 사용법: ./gradlew jmh -PjmhIncludes=JwtRejection [-PjmhProfilers=gc]
+ * 1. legacyWrite / precomputedWrite: 응답 본문 작성 방식만 비교 (문자열 연결 + Writer vs 미리 직렬화된 바이트)
+ * 2. expiredToken: 서명 검증 후 만료 -> 401 (캐시되지 않으므로 매번 파싱)
+ * 3. revokedToken: 캐시 히트 + 폐기 목록 -> 401
+ * 4. garbageToken: 형식이 깨진 토큰 -> 익명 -> entry point 가 401 작성
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtRejectionBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private ErrorResponseWriter errorResponseWriter;
+    private JwtAuthenticationFilter filter;
+    private FilterChain entryPointChain;
+
+    private MockHttpServletRequest expiredRequest;
+    private MockHttpServletRequest revokedRequest;
+    private MockHttpServletRequest garbageRequest;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider provider = JwtBenchmarkSupport.tokenProvider();
+        JwtTokenProvider expiredProvider = JwtBenchmarkSupport.tokenProvider();
+        ReflectionTestUtils.setField(expiredProvider, "accessTokenValidityInMilliseconds", -60_000L);
+
+        String revokedToken = provider.createAccessToken(JwtBenchmarkSupport.member(16));
+        VerifiedToken verified = provider.verify(revokedToken).getToken();
+        TokenRevocationRegistry registry = new TokenRevocationRegistry();
+        registry.revokeToken(verified.getTokenId(), verified.getExpiration());
+
+        errorResponseWriter = new ErrorResponseWriter(new ObjectMapper());
+        filter = JwtBenchmarkSupport.filter(new VerifiedTokenCache(provider, true, 10_000), registry);
+        entryPointChain = (request, response) ->
+                errorResponseWriter.write((HttpServletResponse) response, ErrorCode.UNAUTHORIZED_ACCESS);
+
+        expiredRequest = request("Bearer " + expiredProvider.createAccessToken(JwtBenchmarkSupport.member(16)));
+        revokedRequest = request("Bearer " + revokedToken);
+        garbageRequest = request("Bearer eyJhbGciOiJIUzI1NiJ9.not-a-token.garbage");
+    }
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/test");
+        request.addHeader("Authorization", authorization);
+        return request;
+    }
+
+    @Benchmark
+    public int legacyWrite() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String message = "AccessToken has been revoked";
+        response.setStatus(401);
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"success\": false, \"message\": \"" + message + "\"}");
+        response.getWriter().flush();
+        return response.getContentLength();
+    }
+
+    @Benchmark
+    public int precomputedWrite() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        errorResponseWriter.write(response, ErrorCode.REVOKED_TOKEN);
+        return response.getContentLength();
+    }
+
+    @Benchmark
+    public int expiredToken() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(expiredRequest, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int revokedToken() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(revokedRequest, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int garbageToken() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(garbageRequest, response, entryPointChain);
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급 / 검증 비용 측정
+ * validateThenGetEmail : 기존 방식 (파싱 + 서명 검증 2회)
+ * verify               : 단일 파싱 방식
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"16", "64", "256"})
+    private int emailLength;
+
+    private JwtTokenProvider provider;
+    private AuthenticatedMember member;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        provider = JwtBenchmarkSupport.tokenProvider();
+        member = JwtBenchmarkSupport.member(emailLength);
+        accessToken = provider.createAccessToken(member);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return provider.createAccessToken(member);
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return provider.createRefreshToken(member);
+    }
+
+    @Benchmark
+    public void validateThenGetEmail(Blackhole blackhole) {
+        if (provider.validateToken(accessToken)) {
+            blackhole.consume(provider.getEmail(accessToken));
+        }
+    }
+
+    @Benchmark
+    public TokenVerification verify() {
+        return provider.verify(accessToken);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.spring_boot_jwt_boilerplate.dto.common;
+
+import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.LoginResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse JSON 직렬화 비용 측정
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ApiResponse<LoginResponse> loginSuccess;
+    private ApiResponse<Map<String, String>> validationFail;
+
+    @Setup
+    public void setUp() {
+        loginSuccess = ApiResponse.success(LoginResponse.builder()
+                .accessToken("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJ1c2VyQHRlc3QuY29tIn0.signature")
+                .nickname("tester")
+                .role(Role.USER)
+                .build());
+        validationFail = ApiResponse.fail("입력값이 올바르지 않습니다.",
+                Map.of("email", "이메일 형식이 올바르지 않습니다.",
+                        "password", "비밀번호는 필수 입력값입니다."));
+    }
+
+    @Benchmark
+    public byte[] loginSuccess() throws Exception {
+        return objectMapper.writeValueAsBytes(loginSuccess);
+    }
+
+    @Benchmark
+    public byte[] validationFail() throws Exception {
+        return objectMapper.writeValueAsBytes(validationFail);
+    }
+}
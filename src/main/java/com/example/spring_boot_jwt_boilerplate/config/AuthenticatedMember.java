@@ -0,0 +1,13 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
+
+/**
+ * 인증된 요청의 principal (@AuthenticationPrincipal 로 주입)
+ * 토큰 클레임(mid / sub / role)만으로 만들어지므로 요청마다 DB 조회가 없습니다.
+ * @param id    회원 PK (mid 클레임)
+ * @param email 회원 이메일 (sub 클레임)
+ * @param role  회원 권한 (role 클레임)
+ */
+public record AuthenticatedMember(Long id, String email, Role role) {
+}
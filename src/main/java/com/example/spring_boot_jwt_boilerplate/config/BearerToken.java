@@ -0,0 +1,33 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+/**
+ * Authorization 헤더에서 Bearer 토큰 위치 계산
+ * substring 으로 복사하지 않고 토큰이 시작하는 offset 만 돌려줍니다.
+ */
+final class BearerToken {
+
+    static final String PREFIX = "Bearer ";
+
+    private BearerToken() {
+    }
+
+    /**
+     * @param header Authorization 헤더 값 (nullable)
+     * @return 토큰 시작 위치, Bearer 토큰이 아니면 -1
+     */
+    static int offset(String header) {
+        if (header == null || header.length() <= PREFIX.length()) {
+            return -1;
+        }
+        if (!header.startsWith(PREFIX)) {
+            return -1;
+        }
+        // 접두사 뒤가 공백뿐이면 토큰 없음으로 취급 (기존 hasText 검사와 동일)
+        for (int i = PREFIX.length(); i < header.length(); i++) {
+            if (!Character.isWhitespace(header.charAt(i))) {
+                return PREFIX.length();
+            }
+        }
+        return -1;
+    }
+}
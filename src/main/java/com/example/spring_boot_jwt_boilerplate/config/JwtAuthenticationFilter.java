@@ -1,67 +1,84 @@
 package com.example.spring_boot_jwt_boilerplate.config;
 
-import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.example.spring_boot_jwt_boilerplate.config.logging.RequestMdcFilter;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorCode;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorResponseWriter;
+import com.example.spring_boot_jwt_boilerplate.service.revocation.TokenRevocationRegistry;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.slf4j.MDC;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final JwtFilterMetrics metrics;
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Override
     /**
      * 1. 요청 헤더에서 JWT 토큰 추출
      * 2. 토큰 유효성 검사(토큰이 유효하면 사용자 정보를 받아옴)
-     * 3. SecurityContext에 인증 정보 저장
+     * 3. SecurityContext에 인증 정보 저장 (+ MDC 에 회원 PK)
+     * 4. 결과(ok/missing/expired/invalid/revoked/error)별 처리 시간 기록
      */
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        long startedAt = System.nanoTime();
+        JwtFilterMetrics.Outcome outcome = JwtFilterMetrics.Outcome.MISSING;
+
         try {
-            String token = resolveToken(request);
+            String header = request.getHeader("Authorization");
+            int offset = BearerToken.offset(header);
+
+            if (offset >= 0) {
+                // 헤더를 복사하지 않고 offset 으로 전달, 서명 검증 + 클레임 파싱은 한 번만 수행 (캐시 히트 시 생략)
+                TokenVerification verification = verifiedTokenCache.verify(header, offset);
+
+                if (verification.getStatus() == TokenVerification.Status.EXPIRED) {
+                    outcome = JwtFilterMetrics.Outcome.EXPIRED;
+                    errorResponseWriter.write(response, ErrorCode.EXPIRED_TOKEN);
+                    return;
+                }
 
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                String email = jwtTokenProvider.getEmail(token);
+                if (verification.isValid()) {
+                    VerifiedToken verifiedToken = verification.getToken();
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(email, null, Collections.emptyList());
+                    // 로컬 폐기 목록만 조회 (Redis 왕복 없음)
+                    if (tokenRevocationRegistry.isRevoked(verifiedToken)) {
+                        outcome = JwtFilterMetrics.Outcome.REVOKED;
+                        errorResponseWriter.write(response, ErrorCode.REVOKED_TOKEN);
+                        return;
+                    }
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    // 권한 목록은 Role 별로 미리 만든 것을 재사용
+                    SecurityContextHolder.getContext().setAuthentication(new VerifiedTokenAuthentication(verifiedToken));
+                    if (verifiedToken.hasMemberClaims()) {
+                        // 이후 로그에 회원 PK 표시 (이메일은 개인정보이므로 넣지 않음, 제거는 RequestMdcFilter)
+                        MDC.put(RequestMdcFilter.MEMBER_ID, Long.toString(verifiedToken.getMemberId()));
+                    }
+                    outcome = JwtFilterMetrics.Outcome.OK;
+                } else {
+                    outcome = JwtFilterMetrics.Outcome.INVALID;
+                }
             }
-        } catch (ExpiredJwtException e) {
-            setErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "AccessToken has expired");
-            return;
         } catch (Exception e) {
-            setErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "Invalid token");
+            outcome = JwtFilterMetrics.Outcome.ERROR;
+            errorResponseWriter.write(response, ErrorCode.INVALID_TOKEN);
             return;
+        } finally {
+            metrics.record(outcome, startedAt);
         }
 
         filterChain.doFilter(request, response);
     }
-
-    private void setErrorResponse(HttpServletResponse response, int status, String message) throws IOException {
-        response.setStatus(status);
-        response.setContentType("application/json;charset=UTF-8");
-        // 이 부분은 본인의 ApiResponse 구조에 맞춰 변경 가능합니다.
-        response.getWriter().write("{\"success\": false, \"message\": \"" + message + "\"}");
-    }
-
-    private String resolveToken(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorCode;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorResponseWriter;
+import com.example.spring_boot_jwt_boilerplate.service.revocation.TokenRevocationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * JwtAuthenticationFilter 의 리액티브(WebFlux) 버전
+ * 토큰 검증은 I/O 가 없는 CPU 작업이므로 이벤트 루프에서 바로 수행합니다.
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final JwtFilterMetrics metrics;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @Override
+    /**
+     * 1. 요청 헤더에서 JWT 토큰 추출
+     * 2. 토큰 유효성 검사(토큰이 유효하면 사용자 정보를 받아옴)
+     * 3. Reactor Context 에 인증 정보 저장
+     */
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long startedAt = System.nanoTime();
+        String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        int offset = BearerToken.offset(header);
+
+        if (offset < 0) {
+            metrics.record(JwtFilterMetrics.Outcome.MISSING, startedAt);
+            return chain.filter(exchange);
+        }
+
+        TokenVerification verification = verifiedTokenCache.verify(header, offset);
+
+        if (verification.getStatus() == TokenVerification.Status.EXPIRED) {
+            metrics.record(JwtFilterMetrics.Outcome.EXPIRED, startedAt);
+            return errorResponseWriter.write(exchange.getResponse(), ErrorCode.EXPIRED_TOKEN);
+        }
+
+        if (!verification.isValid()) {
+            metrics.record(JwtFilterMetrics.Outcome.INVALID, startedAt);
+            return chain.filter(exchange);
+        }
+
+        VerifiedToken verifiedToken = verification.getToken();
+        if (tokenRevocationRegistry.isRevoked(verifiedToken)) {
+            metrics.record(JwtFilterMetrics.Outcome.REVOKED, startedAt);
+            return errorResponseWriter.write(exchange.getResponse(), ErrorCode.REVOKED_TOKEN);
+        }
+
+        metrics.record(JwtFilterMetrics.Outcome.OK, startedAt);
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(new VerifiedTokenAuthentication(verifiedToken)));
+    }
+}
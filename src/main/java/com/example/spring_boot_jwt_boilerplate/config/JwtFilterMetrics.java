@@ -0,0 +1,38 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터 처리 시간 (auth.filter{outcome})
+ * 필터 자체의 작업(토큰 추출 ~ SecurityContext 저장)만 측정하고 이후 체인은 포함하지 않음
+ * Timer 는 결과별로 미리 등록해 요청마다 레지스트리 조회가 없도록 함
+ */
+@Component
+public class JwtFilterMetrics {
+
+    public enum Outcome {
+        OK, MISSING, EXPIRED, INVALID, REVOKED, ERROR
+    }
+
+    private final Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+
+    public JwtFilterMetrics(MeterRegistry meterRegistry) {
+        for (Outcome outcome : Outcome.values()) {
+            timers.put(outcome, Timer.builder("auth.filter")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .description("JWT 인증 필터 처리 시간")
+                    .register(meterRegistry));
+        }
+    }
+
+    void record(Outcome outcome, long startedAt) {
+        timers.get(outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+}
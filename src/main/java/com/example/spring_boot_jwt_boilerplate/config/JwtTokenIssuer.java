@@ -0,0 +1,131 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * HS256 토큰 발급 전용 (JwtTokenProvider 내부에서만 사용)
+ * jjwt 빌더와 같은 형식의 토큰을 만들되, 요청마다 반복되던 비용을 제거합니다.
+ * 1. 헤더({"alg":"HS256"})는 고정이므로 Base64URL 인코딩 결과를 미리 만들어 둠
+ * 2. 클레임은 Claims 맵 / Date / Jackson 없이 고정된 필드 순서로 직접 JSON 작성
+ * 3. Mac 은 thread-safe 하지 않으므로 풀에서 빌려 쓰고 반납 (getInstance + init 비용 제거)
+ */
+final class JwtTokenIssuer {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+    private static final byte[] HEADER_SEGMENT =
+            BASE64URL.encode("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII));
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray(); // Jackson 과 같은 대문자
+
+    private final SecretKeySpec key;
+
+    // ThreadLocal 은 가상 스레드마다 Mac 이 생기므로, 동시 발급 수만큼만 만들어지는 풀 사용
+    private final Queue<Mac> macs = new ConcurrentLinkedQueue<>();
+
+    JwtTokenIssuer(byte[] secret) {
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        macs.offer(newMac());
+    }
+
+    /**
+     * 서명된 토큰 생성 (claim: sub, mid, role, sid, jti, iat, exp)
+     * @param issuedAt 발급 시각 (epoch ms, iat / exp 는 jjwt 와 같이 초 단위로 내림)
+     * @param validity 유효시간 (ms)
+     */
+    String issue(AuthenticatedMember member, String sessionId, String tokenId, long issuedAt, long validity) {
+        byte[] payload = BASE64URL.encode(claims(member, sessionId, tokenId, issuedAt, validity));
+
+        Mac mac = borrow();
+        byte[] signature;
+        try {
+            mac.update(HEADER_SEGMENT);
+            mac.update((byte) '.');
+            mac.update(payload);
+            signature = BASE64URL.encode(mac.doFinal());
+        } finally {
+            macs.offer(mac);
+        }
+
+        byte[] token = new byte[HEADER_SEGMENT.length + payload.length + signature.length + 2];
+        System.arraycopy(HEADER_SEGMENT, 0, token, 0, HEADER_SEGMENT.length);
+        int offset = HEADER_SEGMENT.length;
+        token[offset++] = '.';
+        System.arraycopy(payload, 0, token, offset, payload.length);
+        offset += payload.length;
+        token[offset++] = '.';
+        System.arraycopy(signature, 0, token, offset, signature.length);
+        return new String(token, StandardCharsets.US_ASCII);
+    }
+
+    // null 값은 jjwt 와 같이 클레임 자체를 생략
+    private static byte[] claims(AuthenticatedMember member, String sessionId, String tokenId,
+                                 long issuedAt, long validity) {
+        StringBuilder json = new StringBuilder(192);
+        json.append('{');
+        if (member.email() != null) {
+            string(json.append("\"sub\":"), member.email()).append(',');
+        }
+        if (member.id() != null) {
+            json.append("\"mid\":").append(member.id().longValue()).append(',');
+        }
+        if (member.role() != null) {
+            string(json.append("\"role\":"), member.role().name()).append(',');
+        }
+        if (sessionId != null) {
+            string(json.append("\"sid\":"), sessionId).append(',');
+        }
+        if (tokenId != null) {
+            string(json.append("\"jti\":"), tokenId).append(',');
+        }
+        json.append("\"iat\":").append(issuedAt / 1000L)
+                .append(",\"exp\":").append((issuedAt + validity) / 1000L)
+                .append('}');
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // JSON 문자열 이스케이프 (따옴표, 역슬래시, 제어 문자 - Jackson 과 같은 표기)
+    private static StringBuilder string(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                case '\b' -> json.append("\\b");
+                case '\f' -> json.append("\\f");
+                default -> {
+                    if (c < 0x20) {
+                        json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"');
+    }
+
+    private Mac borrow() {
+        Mac mac = macs.poll();
+        return mac != null ? mac : newMac();
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HS256 Mac 을 초기화할 수 없습니다.", e);
+        }
+    }
+}
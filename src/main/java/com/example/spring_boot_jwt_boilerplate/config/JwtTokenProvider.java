@@ -1,17 +1,31 @@
 package com.example.spring_boot_jwt_boilerplate.config;
 
+import com.example.spring_boot_jwt_boilerplate.config.jwk.JwtKeyRing;
+import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
 
+    // 회원 PK / 권한 클레임 (필터가 DB 조회 없이 principal + 권한을 만들 수 있도록)
+    static final String MEMBER_ID_CLAIM = "mid";
+    static final String ROLE_CLAIM = "role";
+    // 로그인(기기) 세션 ID - Refresh Token family 식별, 같은 세션의 AT / RT 가 공유
+    static final String SESSION_ID_CLAIM = "sid";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
@@ -21,57 +35,245 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenValidityInMilliseconds;
 
+    // jwt.signing.algorithm=ES256 일 때만 주입됨 (기본값 HS256 은 jwt.secret 사용)
+    @Autowired(required = false)
+    private JwtKeyRing keyRing;
+
+    // 없으면(단위 테스트 / 벤치마크) 내부 SimpleMeterRegistry 사용
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
     private Key key;
 
+    // HS256 발급 전용 (ES256 키 링 사용 시 null -> jjwt 빌더로 서명)
+    private JwtTokenIssuer issuer;
+
+    // jwt.token{operation=sign,type} / jwt.token{operation=verify,result}
+    private Timer signAccessTimer;
+    private Timer signRefreshTimer;
+    private Timer verifyValidTimer;
+    private Timer verifyExpiredTimer;
+    private Timer verifyInvalidTimer;
+
+    // JwtParser 는 불변 + thread-safe 이므로 한 번만 만들어 재사용
+    private JwtParser jwtParser;
+
     @PostConstruct
     protected void init() {
+        MeterRegistry registry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+        this.signAccessTimer = timer(registry, "sign", "type", "access");
+        this.signRefreshTimer = timer(registry, "sign", "type", "refresh");
+        this.verifyValidTimer = timer(registry, "verify", "result", "valid");
+        this.verifyExpiredTimer = timer(registry, "verify", "result", "expired");
+        this.verifyInvalidTimer = timer(registry, "verify", "result", "invalid");
+
+        if (keyRing != null) {
+            // kid 헤더로 키 링에서 공개키를 찾아 검증 (HS256 토큰은 키 타입 불일치로 거부됨)
+            this.jwtParser = Jwts.parserBuilder()
+                    .setSigningKeyResolver(keyRing)
+                    .build();
+            return;
+        }
+
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.issuer = new JwtTokenIssuer(key.getEncoded());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+    }
+
+    private static Timer timer(MeterRegistry registry, String operation, String tagKey, String tagValue) {
+        return Timer.builder("jwt.token")
+                .tag("operation", operation)
+                .tag(tagKey, tagValue)
+                .description("JWT 서명 / 검증 시간")
+                .register(registry);
     }
 
     /**
      * Access Token 생성
-     * @param email 사용자의 이메일을 받음
+     * jti(토큰 ID) 를 포함하여 로그아웃 / 강제 폐기 대상으로 지정할 수 있게 함
+     * mid / role 을 포함하여 인가 시 DB 조회가 필요 없게 함
+     * @param member 토큰 주인 (PK, 이메일, 권한)
      * @return Access Token 반환
      */
-    public String createAccessToken(String email) {
-        Claims claims = Jwts.claims().setSubject(email);
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + accessTokenValidityInMilliseconds);
-
-        return Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+    public String createAccessToken(AuthenticatedMember member) {
+        return createAccessToken(member, null);
+    }
+
+    /**
+     * 세션(sid) 을 포함한 Access Token 생성 (로그아웃 시 해당 기기 세션만 폐기할 수 있도록)
+     */
+    public String createAccessToken(AuthenticatedMember member, String sessionId) {
+        return createAccessToken(member, sessionId, System.currentTimeMillis());
+    }
+
+    private String createAccessToken(AuthenticatedMember member, String sessionId, long now) {
+        long startedAt = System.nanoTime();
+        String token = createToken(member, sessionId, UUID.randomUUID().toString(), now, accessTokenValidityInMilliseconds);
+        signAccessTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return token;
     }
 
     /**
      * Refresh Token 생성
+     * 재발급 시에도 DB 조회 없이 같은 클레임으로 Access Token 을 만들 수 있도록 mid / role 포함
      * @return Refresh Token 반환
      */
-    public String createRefreshToken(String email) {
-        Claims claims = Jwts.claims().setSubject(email);
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + refreshTokenValidityInMilliseconds);
-
-        return Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(key, SignatureAlgorithm.HS256)
+    public String createRefreshToken(AuthenticatedMember member) {
+        return createRefreshToken(member, UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * 세션(sid) + 토큰 ID(jti) 를 포함한 Refresh Token 생성
+     * 저장소에는 세션별 현재 jti 만 저장하고, 재발급 시 jti 비교로 재사용을 감지
+     * @param sessionId 로그인 시 정해지는 family ID (재발급 시 유지)
+     * @param tokenId 재발급마다 새로 만드는 ID
+     */
+    public String createRefreshToken(AuthenticatedMember member, String sessionId, String tokenId) {
+        return createRefreshToken(member, sessionId, tokenId, System.currentTimeMillis());
+    }
+
+    private String createRefreshToken(AuthenticatedMember member, String sessionId, String tokenId, long now) {
+        long startedAt = System.nanoTime();
+        String token = createToken(member, sessionId, tokenId, now, refreshTokenValidityInMilliseconds);
+        signRefreshTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return token;
+    }
+
+    /**
+     * 로그인 / 재발급용 Access Token + Refresh Token 을 한 번에 발급
+     * 두 토큰이 같은 발급 시각과 세션(sid) 을 공유하며, HS256 에서는 같은 Mac / 헤더를 재사용
+     * @param sessionId 로그인 시 정해지는 family ID (재발급 시 유지)
+     * @param refreshTokenId Refresh Token 의 jti (세션 저장소에 저장되는 값)
+     */
+    public TokenPair createTokenPair(AuthenticatedMember member, String sessionId, String refreshTokenId) {
+        long now = System.currentTimeMillis();
+        return new TokenPair(
+                createAccessToken(member, sessionId, now),
+                createRefreshToken(member, sessionId, refreshTokenId, now)
+        );
+    }
+
+    private String createToken(AuthenticatedMember member, String sessionId, String tokenId, long now, long validity) {
+        if (issuer != null) {
+            return issuer.issue(member, sessionId, tokenId, now, validity);
+        }
+
+        JwtBuilder builder = Jwts.builder()
+                .setClaims(memberClaims(member, sessionId))
+                .setId(tokenId)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + validity));
+        return sign(builder);
+    }
+
+    private static Claims memberClaims(AuthenticatedMember member, String sessionId) {
+        Claims claims = Jwts.claims().setSubject(member.email());
+        claims.put(MEMBER_ID_CLAIM, member.id());
+        claims.put(ROLE_CLAIM, member.role().name());
+        if (sessionId != null) {
+            claims.put(SESSION_ID_CLAIM, sessionId);
+        }
+        return claims;
+    }
+
+    /**
+     * ES256 서명 (HS256 은 JwtTokenIssuer 가 직접 서명)
+     * 현재 활성 키로 서명하고 kid 헤더를 붙임
+     */
+    private String sign(JwtBuilder builder) {
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                .signWith(signingKey.privateKey(), SignatureAlgorithm.ES256)
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱하여 서명/만료를 검증하고 클레임을 반환
+     * 만료/변조 모두 예외 대신 결과 타입(EXPIRED/INVALID)으로 돌려줍니다.
+     * @param token 사용자의 Access Token 또는 Refresh Token
+     * @return 검증 결과 (VALID 인 경우 클레임 포함)
+     */
+    public TokenVerification verify(String token) {
+        long startedAt = System.nanoTime();
+        TokenVerification verification = parse(token);
+
+        Timer timer = switch (verification.getStatus()) {
+            case VALID -> verifyValidTimer;
+            case EXPIRED -> verifyExpiredTimer;
+            default -> verifyInvalidTimer;
+        };
+        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return verification;
+    }
+
+    private TokenVerification parse(String token) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            long expiration = epochMillis(claims, Claims.EXPIRATION);
+            if (expiration == 0L) {
+                return TokenVerification.invalid();
+            }
+
+            return TokenVerification.valid(new VerifiedToken(
+                    claims.getSubject(),
+                    epochMillis(claims, Claims.ISSUED_AT),
+                    expiration,
+                    memberId(claims),
+                    role(claims.get(ROLE_CLAIM, String.class)),
+                    claims.getId(),
+                    claims.get(SESSION_ID_CLAIM, String.class)
+            ));
+        } catch (ExpiredJwtException e) {
+            return TokenVerification.expired();
+        } catch (JwtException | IllegalArgumentException e) {
+            return TokenVerification.invalid();
+        }
+    }
+
+    /**
+     * exp / iat 클레임을 Date 로 변환하지 않고 epoch 밀리초로 읽음
+     * @return 클레임이 없으면 0
+     */
+    private static long epochMillis(Claims claims, String name) {
+        Object value = claims.get(name);
+        if (value instanceof Number seconds) {
+            return seconds.longValue() * 1000L;
+        }
+        if (value instanceof Date date) {
+            return date.getTime();
+        }
+        return 0L;
+    }
+
+    // mid 클레임이 없는 이전 형식 토큰은 0
+    private static long memberId(Claims claims) {
+        Object value = claims.get(MEMBER_ID_CLAIM);
+        return value instanceof Number id ? id.longValue() : 0L;
+    }
+
+    // 알 수 없는 값이면 null (권한 없음으로 처리)
+    private static Role role(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (Role role : Role.values()) {
+            if (role.name().equals(name)) {
+                return role;
+            }
+        }
+        return null;
+    }
+
     /**
      * 토큰에서 사용자 이메일 추출
      * @param token 사용자의 Access Token
      * @return 이메일을 추출 (사용자 추출)
      */
     public String getEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody()
                 .getSubject();
@@ -84,10 +286,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            Jws<Claims> claims = jwtParser.parseClaimsJws(token);
 
             // 만료 시간이 현재 시간보다 이전이면 false (만료됨)
             return !claims.getBody().getExpiration().before(new Date());
@@ -100,6 +299,13 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * @return 설정된 AT 유효시간 반환
+     */
+    public long getAccessTokenValidityInMilliseconds() {
+        return this.accessTokenValidityInMilliseconds;
+    }
+
     /**
      * .env --> .yml --> variant
      * @return 설정된 RT 유효시간 반환
@@ -0,0 +1,67 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import com.example.spring_boot_jwt_boilerplate.config.ratelimit.RateLimitWebFilter;
+import com.example.spring_boot_jwt_boilerplate.config.ratelimit.RateLimiter;
+import com.example.spring_boot_jwt_boilerplate.service.revocation.TokenRevocationRegistry;
+import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorCode;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorResponseWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * 리액티브 스택 보안 설정 (spring.main.web-application-type=reactive 일 때만 활성화)
+ * SecurityConfig 와 같은 화이트 리스트 / Stateless 정책을 사용합니다.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final JwtFilterMetrics jwtFilterMetrics;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final RateLimiter rateLimiter;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers(SecurityConfig.WHITE_LIST).permitAll()
+                        .pathMatchers(SecurityConfig.ADMIN_PATTERN).hasRole(Role.ADMIN.name())
+                        .anyExchange().authenticated()
+                )
+
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint((exchange, e) ->
+                                errorResponseWriter.write(exchange.getResponse(), ErrorCode.UNAUTHORIZED_ACCESS))
+                        .accessDeniedHandler((exchange, e) ->
+                                errorResponseWriter.write(exchange.getResponse(), ErrorCode.FORBIDDEN_ACCESS))
+                )
+
+                // 로그인 / 재발급 IP 한도 -> 토큰 검증보다 먼저
+                .addFilterBefore(
+                        new RateLimitWebFilter(rateLimiter, errorResponseWriter),
+                        SecurityWebFiltersOrder.AUTHENTICATION
+                )
+                .addFilterAt(
+                        new JwtAuthenticationWebFilter(verifiedTokenCache, tokenRevocationRegistry, jwtFilterMetrics, errorResponseWriter),
+                        SecurityWebFiltersOrder.AUTHENTICATION
+                )
+                .build();
+    }
+}
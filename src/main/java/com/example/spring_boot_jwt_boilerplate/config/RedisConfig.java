@@ -0,0 +1,49 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import com.example.spring_boot_jwt_boilerplate.service.availability.MemberAvailabilityService;
+import com.example.spring_boot_jwt_boilerplate.service.revocation.TokenRevocationService;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    /**
+     * Redis Pub/Sub 구독 컨테이너
+     * 토큰 폐기 / 회원가입(중복 확인 인덱스) 이벤트를 모든 인스턴스에 전파
+     */
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TokenRevocationService tokenRevocationService,
+            MemberAvailabilityService memberAvailabilityService) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenRevocationService, new ChannelTopic(TokenRevocationService.CHANNEL));
+        container.addMessageListener(memberAvailabilityService, new ChannelTopic(MemberAvailabilityService.CHANNEL));
+        return container;
+    }
+
+    @Bean
+    /**
+     * Lettuce 프로토콜 고정 (기본 auto: HELLO 로 RESP3 협상)
+     * HELLO 를 지원하지 않는 Redis 호환 서버(구버전 / 일부 프록시 / 스모크 테스트의 jedis-mock)는 redis.protocol=resp2
+     * AOT / 네이티브 이미지에서도 동작하도록 조건부 빈 대신 실행 시 값으로 분기
+     */
+    public LettuceClientConfigurationBuilderCustomizer redisProtocolCustomizer(
+            @Value("${redis.protocol:auto}") String protocol) {
+        return builder -> {
+            if ("resp2".equalsIgnoreCase(protocol)) {
+                builder.clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build());
+            }
+        };
+    }
+}
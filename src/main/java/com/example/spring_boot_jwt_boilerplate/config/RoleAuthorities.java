@@ -0,0 +1,36 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Role 별 권한 목록을 한 번만 만들어 모든 요청에서 재사용
+ * (요청마다 SimpleGrantedAuthority / List 를 새로 만들지 않음)
+ */
+public final class RoleAuthorities {
+
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority(role.getKey())));
+        }
+    }
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * @param role 토큰의 role 클레임 (nullable)
+     * @return 미리 만들어 둔 권한 목록, role 이 없으면 빈 목록
+     */
+    public static List<GrantedAuthority> of(Role role) {
+        return role == null ? Collections.emptyList() : AUTHORITIES.get(role);
+    }
+}
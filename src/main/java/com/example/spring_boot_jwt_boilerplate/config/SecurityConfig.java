@@ -1,27 +1,47 @@
 package com.example.spring_boot_jwt_boilerplate.config;
 
+import com.example.spring_boot_jwt_boilerplate.service.revocation.TokenRevocationRegistry;
+import com.example.spring_boot_jwt_boilerplate.config.ratelimit.RateLimitFilter;
+import com.example.spring_boot_jwt_boilerplate.config.ratelimit.RateLimiter;
+import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorCode;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorResponseWriter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    // 화이트 리스트(엔드 포인트 등록) - ReactiveSecurityConfig 와 공유
+    static final String[] WHITE_LIST = {
+            "/api/auth/login",
+            "/api/auth/signup",
+            "/api/auth/reissue",
+            "/api/auth/check-email",
+            "/api/auth/check-nickname",
+            "/.well-known/jwks.json",
+            // 운영에서는 management.server.port 분리 또는 네트워크 단에서 접근 제한 권장
+            "/actuator/health/**",
+            "/actuator/prometheus"
+    };
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    static final String ADMIN_PATTERN = "/api/admin/**";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final JwtFilterMetrics jwtFilterMetrics;
+    private final RateLimiter rateLimiter;
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Bean
     /**
@@ -36,17 +56,27 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers( // 화이트 리스트(엔드 포인트 등록)
-                                "/api/auth/login",
-                                "/api/auth/signup",
-                                "/api/auth/reissue",
-                                "/api/auth/check-email",
-                                "/api/auth/check-nickname").permitAll()
+                        .requestMatchers(WHITE_LIST).permitAll()
+                        // 토큰의 role 클레임 -> ROLE_ADMIN 권한으로 판단 (DB 조회 없음)
+                        .requestMatchers(ADMIN_PATTERN).hasRole(Role.ADMIN.name())
                         .anyRequest().authenticated()
                 )
 
+                // 토큰 없음 / 무효 토큰(401), 권한 부족(403) 도 미리 직렬화된 ApiResponse 로 응답
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint((request, response, e) ->
+                                errorResponseWriter.write(response, ErrorCode.UNAUTHORIZED_ACCESS))
+                        .accessDeniedHandler((request, response, e) ->
+                                errorResponseWriter.write(response, ErrorCode.FORBIDDEN_ACCESS))
+                )
+
+                // 로그인 / 재발급 IP 한도 -> 토큰 검증보다 먼저
+                .addFilterBefore(
+                        new RateLimitFilter(rateLimiter, errorResponseWriter),
+                        UsernamePasswordAuthenticationFilter.class
+                )
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(jwtTokenProvider),
+                        new JwtAuthenticationFilter(verifiedTokenCache, tokenRevocationRegistry, jwtFilterMetrics, errorResponseWriter),
                         UsernamePasswordAuthenticationFilter.class
                 );
 
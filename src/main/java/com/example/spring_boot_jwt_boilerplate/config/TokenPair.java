@@ -0,0 +1,7 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+/**
+ * 한 번에 발급한 Access Token + Refresh Token (같은 세션, 같은 발급 시각)
+ */
+public record TokenPair(String accessToken, String refreshToken) {
+}
@@ -0,0 +1,40 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰 검증 결과
+ * VALID 인 경우에만 token 값이 채워집니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TokenVerification {
+
+    public enum Status {
+        VALID, EXPIRED, INVALID
+    }
+
+    private static final TokenVerification EXPIRED = new TokenVerification(Status.EXPIRED, null);
+    private static final TokenVerification INVALID = new TokenVerification(Status.INVALID, null);
+
+    private final Status status;
+    private final VerifiedToken token;
+
+    static TokenVerification valid(VerifiedToken token) {
+        return new TokenVerification(Status.VALID, token);
+    }
+
+    static TokenVerification expired() {
+        return EXPIRED;
+    }
+
+    static TokenVerification invalid() {
+        return INVALID;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
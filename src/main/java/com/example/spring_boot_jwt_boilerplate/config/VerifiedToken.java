@@ -0,0 +1,50 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
+import lombok.Getter;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임 스냅샷 (불변)
+ * 시간 값은 Date 대신 epoch millis(long)로 보관합니다.
+ */
+@Getter
+public final class VerifiedToken {
+
+    private final String subject;
+    private final long issuedAt;
+    private final long expiration;
+    private final long memberId;  // 이전 형식 토큰은 0
+    private final Role role;      // 이전 형식 토큰은 null
+    private final String tokenId;
+    private final String sessionId;  // 로그인(기기) 세션 = Refresh Token family, 이전 형식 토큰은 null
+
+    // 캐시된 토큰은 요청마다 principal 을 새로 만들지 않도록 한 번만 생성
+    private final AuthenticatedMember principal;
+
+    VerifiedToken(String subject, long issuedAt, long expiration, long memberId, Role role, String tokenId,
+                  String sessionId) {
+        this.subject = subject;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+        this.memberId = memberId;
+        this.role = role;
+        this.tokenId = tokenId;
+        this.sessionId = sessionId;
+        this.principal = new AuthenticatedMember(memberId != 0L ? memberId : null, subject, role);
+    }
+
+    /**
+     * @param now 현재 시각 (epoch millis)
+     * @return 만료 여부
+     */
+    public boolean isExpired(long now) {
+        return expiration <= now;
+    }
+
+    /**
+     * @return mid / role 클레임이 모두 있는지 (없으면 이 변경 이전에 발급된 토큰)
+     */
+    public boolean hasMemberClaims() {
+        return memberId != 0L && role != null;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * 검증된 토큰을 감싸는 인증 객체
+ * UsernamePasswordAuthenticationToken 과 달리 권한 목록을 복사하지 않고,
+ * 요청당 이 객체 하나만 할당합니다.
+ * principal: AuthenticatedMember, details: VerifiedToken (로그아웃 시 jti / 만료시각 사용)
+ */
+public final class VerifiedTokenAuthentication implements Authentication {
+
+    private final VerifiedToken token;
+    private final Collection<? extends GrantedAuthority> authorities;
+    private boolean authenticated = true;
+
+    public VerifiedTokenAuthentication(VerifiedToken token) {
+        this.token = token;
+        this.authorities = RoleAuthorities.of(token.getRole());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return token;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return token.getPrincipal();
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        // Authentication 계약: true 로의 변경은 신뢰할 수 없으므로 거부, false 는 허용
+        if (isAuthenticated) {
+            throw new IllegalArgumentException("검증된 토큰으로만 인증 상태가 됩니다.");
+        }
+        this.authenticated = false;
+    }
+
+    @Override
+    public String getName() {
+        return token.getSubject();
+    }
+
+    @Override
+    public String toString() {
+        return "VerifiedTokenAuthentication[principal=" + token.getSubject() + ", authorities=" + authorities + "]";
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 토큰을 보관하는 프로세스 내 캐시 (jwt.cache.enabled=true 일 때만 동작)
+ * 1. Key: 토큰 문자의 64비트 해시 (헤더에서 substring 없이 바로 계산)
+ * 2. 해시 충돌에 대비해 저장된 원문 토큰과 regionMatches 로 전체 비교 후에만 히트 처리
+ * 3. 크기 제한(jwt.cache.maximum-size) + 항목별 만료시각은 토큰의 exp 를 넘지 않음
+ * 4. VALID 결과만 저장 (만료/변조 토큰은 항상 JwtTokenProvider 로 재검증)
+ * 5. cache.gets{cache=verified-token,result=hit|miss} 등 Caffeine 통계를 Micrometer 로 노출
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final boolean enabled;
+    private final Cache<Long, CachedToken> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              @Value("${jwt.cache.enabled:false}") boolean enabled,
+                              @Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @param token 사용자의 Access Token
+     * @return 검증 결과
+     */
+    public TokenVerification verify(String token) {
+        return verify(token, 0);
+    }
+
+    /**
+     * 캐시 히트 시 서명 검증/클레임 파싱/문자열 복사 없이 결과 반환
+     * @param source 토큰을 포함한 문자열 (예: Authorization 헤더 값)
+     * @param offset source 안에서 토큰이 시작하는 위치
+     * @return 검증 결과
+     */
+    public TokenVerification verify(String source, int offset) {
+        if (!enabled) {
+            return jwtTokenProvider.verify(tokenOf(source, offset));
+        }
+
+        long hash = hash(source, offset);
+        CachedToken cached = cache.getIfPresent(hash);
+
+        if (cached != null && cached.matches(source, offset)) {
+            // Caffeine 만료 처리는 지연될 수 있으므로 exp 를 한 번 더 확인
+            if (!cached.verification().getToken().isExpired(System.currentTimeMillis())) {
+                return cached.verification();
+            }
+            cache.invalidate(hash);
+        }
+
+        String token = tokenOf(source, offset);
+        TokenVerification verification = jwtTokenProvider.verify(token);
+        if (verification.isValid()) {
+            cache.put(hash, new CachedToken(token, verification));
+        }
+        return verification;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "verified-token");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return hit / miss / eviction 카운터 스냅샷
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private static String tokenOf(String source, int offset) {
+        return offset == 0 ? source : source.substring(offset);
+    }
+
+    // FNV-1a 64비트 (토큰은 ASCII 이므로 char 단위로 계산)
+    private static long hash(String source, int offset) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = offset; i < source.length(); i++) {
+            hash ^= source.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private record CachedToken(String token, TokenVerification verification) {
+
+        boolean matches(String source, int offset) {
+            int length = source.length() - offset;
+            return token.length() == length && source.regionMatches(offset, token, 0, length);
+        }
+    }
+
+    private static final class TokenExpiry implements Expiry<Long, CachedToken> {
+
+        @Override
+        public long expireAfterCreate(Long key, CachedToken value, long currentTime) {
+            long remaining = value.verification().getToken().getExpiration() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remaining));
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, CachedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, CachedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
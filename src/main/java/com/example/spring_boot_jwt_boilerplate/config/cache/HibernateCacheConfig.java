@@ -0,0 +1,92 @@
+package com.example.spring_boot_jwt_boilerplate.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine) 설정
+ * 1. Member 엔티티 / 이메일 natural-id 영역을 크기 제한(member.cache.maximum-size)으로 미리 생성
+ * 2. 로컬 캐시이므로 다중 인스턴스 간 변경 전파가 없음 -> expire-after-write(member.cache.ttl) 로 불일치 시간 상한
+ * 3. 캐시 적중률 게이지 (member.cache.hit.ratio{cache=entity|natural-id})
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String MEMBER_REGION = "member";
+    public static final String MEMBER_EMAIL_REGION = "member-by-email";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${member.cache.maximum-size:10000}") long maximumSize,
+                                              @Value("${member.cache.ttl:60s}") Duration ttl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // 컨텍스트마다 별도 CacheManager (테스트에서 여러 컨텍스트가 떠도 영역이 섞이지 않도록)
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : new String[]{MEMBER_REGION, MEMBER_EMAIL_REGION}) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    /**
+     * 위에서 만든 CacheManager 를 Hibernate 의 JCache RegionFactory 에 전달
+     */
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    @Bean
+    /**
+     * 2차 캐시 / natural-id 캐시 적중률 (hibernate.generate_statistics=true 일 때만 값이 쌓임)
+     * 요청 수 / 적중 수 자체는 hibernate-micrometer 가 hibernate.* 메트릭으로 노출
+     */
+    public MeterBinder hibernateCacheHitRatio(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        return registry -> entityManagerFactory.ifAvailable(factory -> {
+            Statistics statistics = factory.unwrap(SessionFactory.class).getStatistics();
+            hitRatio(registry, statistics, "entity",
+                    s -> ratio(s.getSecondLevelCacheHitCount(), s.getSecondLevelCacheMissCount()));
+            hitRatio(registry, statistics, "natural-id",
+                    s -> ratio(s.getNaturalIdCacheHitCount(), s.getNaturalIdCacheMissCount()));
+        });
+    }
+
+    private static void hitRatio(MeterRegistry registry, Statistics statistics, String cache,
+                                 ToDoubleFunction<Statistics> ratio) {
+        Gauge.builder("member.cache.hit.ratio", statistics, ratio)
+                .tag("cache", cache)
+                .description("Hibernate 2차 캐시 적중률 (누적)")
+                .register(registry);
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.spring_boot_jwt_boilerplate.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * primary / replica DataSource 구성
+ * 1. primary: spring.datasource.* + spring.datasource.hikari.* (기존 단일 DataSource 와 같은 설정)
+ * 2. replica: datasource.replica.urls 의 URL 마다 primary 설정을 복사한 읽기 전용 Hikari 풀
+ * 3. JPA / JdbcTemplate 은 @Primary 인 LazyConnectionDataSourceProxy(ReplicaRoutingDataSource) 를 사용
+ */
+@Configuration(proxyBeanMethods = false)
+public class DataSourceRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    /**
+     * replica 풀은 이 빈이 소유하므로 종료 시 함께 닫음 (primary 는 자체 빈에서 닫힘)
+     */
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            @Value("${datasource.replica.urls:}") List<String> urls,
+            @Value("${datasource.replica.maximum-pool-size:0}") int maximumPoolSize) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setJdbcUrl(url.trim());
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setReadOnly(true);
+            if (maximumPoolSize > 0) {
+                replica.setMaximumPoolSize(maximumPoolSize);
+                // minimum-idle 미지정(-1)이면 Hikari 가 maximum-pool-size 로 맞춤
+                if (primaryDataSource.getMinimumIdle() > maximumPoolSize) {
+                    replica.setMinimumIdle(maximumPoolSize);
+                }
+            }
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
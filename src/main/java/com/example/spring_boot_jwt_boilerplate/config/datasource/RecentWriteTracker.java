@@ -0,0 +1,96 @@
+package com.example.spring_boot_jwt_boilerplate.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * read-your-writes 보장: 최근에 쓴 회원의 조회는 primary 에서 실행
+ * 1. 가입 직후 로그인 / 중복 확인이 아직 복제되지 않은 replica 를 읽지 않도록 datasource.replica.read-your-writes-window 동안 기록
+ * 2. 기록은 프로세스 내이므로 다른 인스턴스의 쓰기는 모름
+ *    -> replica 에서 "없음" 이 나오면 새 읽기 전용 트랜잭션으로 primary 에서 한 번 더 조회 (있는 회원을 없다고 답하지 않음)
+ * replica 가 없으면 기록 / 재조회 모두 하지 않음
+ */
+@Component
+public class RecentWriteTracker {
+
+    private static final String NICKNAME_KEY_PREFIX = "nickname:";
+
+    private final boolean enabled;
+    private final Cache<String, Boolean> recentWrites;
+    private final TransactionTemplate primaryRetry;
+
+    public RecentWriteTracker(ReplicaRoutingDataSource routingDataSource,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${datasource.replica.read-your-writes-window:5s}") Duration window,
+                              @Value("${datasource.replica.read-your-writes-maximum-size:100000}") long maximumSize) {
+        this.enabled = !routingDataSource.getReplicas().isEmpty();
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .build();
+
+        // 호출한 트랜잭션은 이미 replica 커넥션을 잡았으므로 별도 트랜잭션에서 primary 커넥션을 얻음
+        this.primaryRetry = new TransactionTemplate(transactionManager);
+        this.primaryRetry.setReadOnly(true);
+        this.primaryRetry.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 닉네임 조회용 키 (이메일과 같은 기록을 공유)
+     */
+    public static String nicknameKey(String nickname) {
+        return NICKNAME_KEY_PREFIX + nickname;
+    }
+
+    /**
+     * 쓰기(INSERT / UPDATE) 커밋 후 호출
+     * @param key 이메일 또는 nicknameKey(닉네임)
+     */
+    public void recordWrite(String key) {
+        if (enabled && key != null) {
+            recentWrites.put(key, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 회원 조회 (findByEmail 등), replica 에서 비어 있으면 primary 에서 재조회
+     * 트랜잭션의 첫 조회를 감싸야 함 (ReplicaRoutingDataSource.usePrimary 참고)
+     */
+    public <T> Optional<T> find(String key, Supplier<Optional<T>> query) {
+        return read(key, query, Optional::isPresent);
+    }
+
+    /**
+     * 존재 확인 (existsByEmail 등), replica 에서 false 면 primary 에서 재확인
+     */
+    public boolean exists(String key, Supplier<Boolean> query) {
+        return read(key, query, Boolean.TRUE::equals);
+    }
+
+    private <T> T read(String key, Supplier<T> query, Predicate<T> found) {
+        if (!enabled) {
+            return query.get();
+        }
+        if (key != null && recentWrites.getIfPresent(key) != null) {
+            return ReplicaRoutingDataSource.usePrimary(query);
+        }
+
+        T result = query.get();
+        // 읽기 전용 트랜잭션이 아니었다면 이미 primary 에서 읽은 결과
+        if (found.test(result) || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return result;
+        }
+        return primaryRetry.execute(status -> ReplicaRoutingDataSource.usePrimary(query));
+    }
+}
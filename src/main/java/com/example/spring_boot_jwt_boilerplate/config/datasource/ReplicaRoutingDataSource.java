@@ -0,0 +1,111 @@
+package com.example.spring_boot_jwt_boilerplate.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 그 외(쓰기 / 트랜잭션 밖)는 primary 로 보내는 DataSource
+ * 1. LazyConnectionDataSourceProxy 뒤에 두어 트랜잭션의 readOnly 가 정해진 뒤(첫 SQL 시점)에 대상을 고름
+ * 2. replica 가 여럿이면 사용 중 + 대기 중 커넥션이 가장 적은 풀 선택 (동률이면 돌아가며)
+ * 3. usePrimary 블록 안의 조회는 읽기 전용이어도 primary (방금 쓴 데이터를 복제 지연 없이 읽기)
+ * replica 가 없으면 모든 요청이 primary 로 감
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    /**
+     * 블록 안에서 새로 얻는 커넥션은 읽기 전용 트랜잭션이어도 primary 사용
+     * 이미 커넥션을 얻은 트랜잭션 안에서는 효과가 없으므로 트랜잭션의 첫 조회를 감싸야 함
+     */
+    public static <T> T usePrimary(Supplier<T> query) {
+        Boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_PINNED.remove();
+            } else {
+                PRIMARY_PINNED.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    HikariDataSource target() {
+        if (replicas.isEmpty()
+                || PRIMARY_PINNED.get() != null
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary;
+        }
+        return leastBusyReplica();
+    }
+
+    private HikariDataSource leastBusyReplica() {
+        int size = replicas.size();
+        if (size == 1) {
+            return replicas.get(0);
+        }
+
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        HikariDataSource selected = null;
+        int selectedLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            HikariDataSource candidate = replicas.get((start + i) % size);
+            int load = load(candidate);
+            if (load < selectedLoad) {
+                selected = candidate;
+                selectedLoad = load;
+            }
+        }
+        return selected;
+    }
+
+    // 풀이 아직 시작되지 않았으면(첫 커넥션 전) 0
+    private static int load(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    public List<HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * replica 풀 종료 (primary 는 자체 빈으로 관리)
+     */
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+}
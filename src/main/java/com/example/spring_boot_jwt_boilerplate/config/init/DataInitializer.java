@@ -1,38 +1,60 @@
 package com.example.spring_boot_jwt_boilerplate.config.init;
+import com.example.spring_boot_jwt_boilerplate.config.password.PasswordHashExecutor;
 import com.example.spring_boot_jwt_boilerplate.domain.member.Member;
 import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
 import com.example.spring_boot_jwt_boilerplate.repository.MemberRepository;
+import com.example.spring_boot_jwt_boilerplate.service.availability.MemberAvailabilityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.CommandLineRunner;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+/**
+ * 초기 관리자 계정 생성
+ * 기동 스레드(CommandLineRunner)에서 DB 조회 + BCrypt 해시를 하면 readiness 가 그만큼 늦어지므로
+ * 기동 완료 후 별도 가상 스레드에서 실행합니다. (요청 처리와 같은 해시 전용 풀 사용)
+ * 인덱스 재구성과 동시에 실행되므로 회원가입과 같이 저장 전에 가입 여부 인덱스에 먼저 추가합니다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class DataInitializer implements CommandLineRunner {
+public class DataInitializer {
+
+    private static final String ADMIN_EMAIL = "admin@test.com";
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final MemberAvailabilityService memberAvailabilityService;
 
-    @Override
-    public void run(String... args) {
-        String adminEmail = "admin@test.com";
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedInBackground() {
+        Thread.ofVirtual().name("admin-seed").start(this::seed);
+    }
 
-        if (memberRepository.existsByEmail(adminEmail)) {
-            log.info("[DataInitializer] 관리자 계정이 이미 존재합니다.");
-            return;
-        }
+    void seed() {
+        try {
+            if (memberRepository.existsByEmail(ADMIN_EMAIL)) {
+                log.info("[DataInitializer] 관리자 계정이 이미 존재합니다.");
+                return;
+            }
 
-        Member admin = Member.builder()
-                .email(adminEmail)
-                .password(passwordEncoder.encode("admin1234"))
-                .nickname("슈퍼관리자")
-                .role(Role.ADMIN)
-                .build();
+            Member admin = Member.builder()
+                    .email(ADMIN_EMAIL)
+                    .password(passwordHashExecutor.encode("admin1234"))
+                    .nickname("슈퍼관리자")
+                    .role(Role.ADMIN)
+                    .build();
 
-        memberRepository.save(admin);
-        log.info("[DataInitializer] 초기 관리자 계정 생성이 완료되었습니다: {}", adminEmail);
+            memberAvailabilityService.record(admin.getEmail(), admin.getNickname());
+            memberRepository.save(admin);
+            log.info("[DataInitializer] 초기 관리자 계정 생성이 완료되었습니다: {}", ADMIN_EMAIL);
+        } catch (DataIntegrityViolationException e) {
+            // 여러 Pod 가 동시에 기동하면 다른 Pod 가 먼저 생성할 수 있음
+            log.info("[DataInitializer] 다른 인스턴스가 관리자 계정을 먼저 생성했습니다.");
+        } catch (RuntimeException e) {
+            log.warn("[DataInitializer] 관리자 계정 생성 실패 (다음 기동 시 재시도)", e);
+        }
     }
-}
\ No newline at end of file
+}
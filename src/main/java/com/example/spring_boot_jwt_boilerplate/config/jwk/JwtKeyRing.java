@@ -0,0 +1,306 @@
+package com.example.spring_boot_jwt_boilerplate.config.jwk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.*;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * ES256 서명 키 링 (jwt.signing.algorithm=ES256 일 때만 활성화)
+ * 1. 모든 인스턴스가 같은 키를 쓰도록 키 쌍을 Redis Hash(JWK:keys)에 보관
+ *    (개인키가 저장되므로 Redis 는 ACL / TLS 로 보호해야 함)
+ * 2. rotation-period 마다 새 키 생성 (분산 락으로 한 인스턴스만 생성, 해제는 자기 토큰일 때만)
+ * 3. 새 키는 활성화 지연 이후에 서명에 사용 -> 그 전에 모든 인스턴스/JWKS 소비자가 공개키를 받아감
+ *    (서명할 수 있는 키가 하나도 없을 때만 예외: 최초 기동 / 보관 기간보다 긴 중단 후에는 바로 사용)
+ *    지연 = 모든 인스턴스가 키를 읽는 시간(refresh-interval x 2) + JWKS 캐시 수명(jwks-max-age + jwks-stale-while-revalidate)
+ *    (새 키가 공개되기 직전에 받아 간 JWKS 캐시가 만료된 뒤에야 새 키로 서명)
+ * 4. 더 이상 유효한 토큰이 없을 만큼 오래된 키는 삭제
+ * 5. 검증 시 kid 로 미리 로드된 Map 만 조회 (요청마다 키 파싱 없음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.signing.algorithm", havingValue = "ES256")
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+    private static final String KEYS_HASH = "JWK:keys";
+    private static final String ROTATION_LOCK = "JWK:rotation-lock";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+    private static final Duration INIT_RETRY_INTERVAL = Duration.ofMillis(200);
+
+    // 락 값이 자기 토큰일 때만 삭제 (TTL 이 지나 다른 인스턴스가 잡은 락은 건드리지 않음)
+    private static final RedisScript<Long> RELEASE_LOCK = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration rotationPeriod;
+    private final Duration activationDelay;
+    private final Duration retention;
+
+    private volatile KeySet keySet = KeySet.EMPTY;
+
+    public JwtKeyRing(StringRedisTemplate redisTemplate,
+                      ObjectMapper objectMapper,
+                      @Value("${jwt.signing.rotation-period:1d}") Duration rotationPeriod,
+                      @Value("${jwt.signing.refresh-interval:60s}") Duration refreshInterval,
+                      @Value("${jwt.signing.jwks-max-age:5m}") Duration jwksMaxAge,
+                      @Value("${jwt.signing.jwks-stale-while-revalidate:1m}") Duration jwksStaleWhileRevalidate,
+                      @Value("${jwt.refresh-token-expiration}") long refreshTokenValidityInMilliseconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.rotationPeriod = rotationPeriod;
+        this.activationDelay = refreshInterval.multipliedBy(2).plus(jwksMaxAge).plus(jwksStaleWhileRevalidate);
+        // 키가 서명에서 물러난 뒤에도, 그 키로 서명된 가장 긴 토큰(RT)이 만료될 때까지 보관
+        this.retention = rotationPeriod.plus(activationDelay).plus(refreshInterval)
+                .plusMillis(refreshTokenValidityInMilliseconds);
+    }
+
+    @PostConstruct
+    /**
+     * 최초 기동 시 다른 인스턴스가 락을 잡고 첫 키를 만드는 중이면, 키가 저장될 때까지 다시 읽음
+     * 락을 잡은 인스턴스가 죽어도 락 TTL 이후에는 이 인스턴스가 생성
+     */
+    public void init() {
+        long deadline = System.currentTimeMillis() + LOCK_TTL.toMillis() * 2;
+        refresh();
+        while (keySet.signingKey() == null) {
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IllegalStateException("ES256 서명 키를 준비하지 못했습니다.");
+            }
+            try {
+                Thread.sleep(INIT_RETRY_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("ES256 서명 키 대기 중 중단되었습니다.", e);
+            }
+            refresh();
+        }
+    }
+
+    /**
+     * Redis 의 키 목록을 다시 읽고, 필요하면 새 키 생성 / 오래된 키 삭제
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.refresh-interval:60s}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        List<StoredKey> keys = load();
+
+        if (rotationDue(keys, now) && rotate(now)) {
+            keys = load();
+        }
+
+        for (StoredKey key : keys) {
+            if (!isRetained(key, now)) {
+                redisTemplate.opsForHash().delete(KEYS_HASH, key.kid());
+            }
+        }
+
+        keySet = buildKeySet(keys, now);
+    }
+
+    /**
+     * jjwt 파서가 JWS 헤더의 kid 로 검증 키를 조회
+     */
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        PublicKey publicKey = keySet.publicKeys().get(header.getKeyId());
+        if (publicKey == null) {
+            throw new SignatureException("알 수 없는 kid: " + header.getKeyId());
+        }
+        return publicKey;
+    }
+
+    /**
+     * @return 현재 서명에 사용할 키
+     */
+    public SigningKey signingKey() {
+        return keySet.signingKey();
+    }
+
+    /**
+     * @return 미리 직렬화된 JWKS 응답 본문 (UTF-8)
+     */
+    public byte[] jwksBody() {
+        return keySet.jwks();
+    }
+
+    public String jwksETag() {
+        return keySet.etag();
+    }
+
+    /**
+     * @return 새 키를 만든 뒤 서명에 쓰기까지 기다리는 시간
+     */
+    public Duration activationDelay() {
+        return activationDelay;
+    }
+
+    private List<StoredKey> load() {
+        List<StoredKey> keys = new ArrayList<>();
+        for (Map.Entry<Object, Object> entry : redisTemplate.opsForHash().entries(KEYS_HASH).entrySet()) {
+            try {
+                keys.add(StoredKey.parse((String) entry.getKey(), (String) entry.getValue()));
+            } catch (GeneralSecurityException | RuntimeException e) {
+                log.warn("[JwtKeyRing] 키 {} 를 읽지 못했습니다.", entry.getKey(), e);
+            }
+        }
+        return keys;
+    }
+
+    private boolean rotationDue(List<StoredKey> keys, long now) {
+        if (!hasUsableKey(keys, now)) {
+            return true;
+        }
+        OptionalLong newest = keys.stream().mapToLong(StoredKey::createdAt).max();
+        return newest.isEmpty() || newest.getAsLong() + rotationPeriod.toMillis() <= now;
+    }
+
+    // 활성화되었고 보관 기간 안인 키 = 지금 서명에 쓸 수 있는 키 (buildKeySet 과 같은 기준)
+    private boolean hasUsableKey(List<StoredKey> keys, long now) {
+        return keys.stream().anyMatch(key -> isActive(key, now) && isRetained(key, now));
+    }
+
+    private boolean isActive(StoredKey key, long now) {
+        return key.createdAt() + activationDelay.toMillis() <= now;
+    }
+
+    private boolean isRetained(StoredKey key, long now) {
+        return key.createdAt() + retention.toMillis() > now;
+    }
+
+    /**
+     * @return 락을 잡았으면 true (키 목록을 다시 읽어야 함)
+     */
+    private boolean rotate(long now) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(ROTATION_LOCK, token, LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return false;
+        }
+
+        try {
+            // 락을 기다리는 사이 다른 인스턴스가 이미 교체했으면 생성하지 않음
+            List<StoredKey> keys = load();
+            if (!rotationDue(keys, now)) {
+                return true;
+            }
+            // 서명할 수 있는 키가 없으면(최초 기동 / 보관 기간보다 긴 중단 후) 즉시 사용할 수 있도록 활성화 지연을 건너뜀
+            long createdAt = hasUsableKey(keys, now) ? now : now - activationDelay.toMillis();
+
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+
+            String kid = UUID.randomUUID().toString();
+            redisTemplate.opsForHash().put(KEYS_HASH, kid, StoredKey.format(createdAt, keyPair));
+            log.info("[JwtKeyRing] 새 서명 키 생성: {}", kid);
+            return true;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("ES256 키 생성 실패", e);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK, List.of(ROTATION_LOCK), token);
+        }
+    }
+
+    private KeySet buildKeySet(List<StoredKey> keys, long now) {
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        List<Map<String, String>> jwks = new ArrayList<>();
+        StoredKey signing = null;
+
+        for (StoredKey key : keys) {
+            if (!isRetained(key, now)) {
+                continue;
+            }
+            publicKeys.put(key.kid(), key.publicKey());
+            jwks.add(toJwk(key));
+
+            if (isActive(key, now) && (signing == null || key.createdAt() > signing.createdAt())) {
+                signing = key;
+            }
+        }
+
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(Map.of("keys", jwks));
+            String etag = "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+            SigningKey signingKey = signing == null ? null : new SigningKey(signing.kid(), signing.privateKey());
+            return new KeySet(Map.copyOf(publicKeys), signingKey, body, etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JWKS 직렬화 실패", e);
+        }
+    }
+
+    private static Map<String, String> toJwk(StoredKey key) {
+        ECPublicKey publicKey = (ECPublicKey) key.publicKey();
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", key.kid());
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("x", coordinate(publicKey.getW().getAffineX()));
+        jwk.put("y", coordinate(publicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    // P-256 좌표는 32바이트 고정 길이 big-endian
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    public record SigningKey(String kid, PrivateKey privateKey) {
+    }
+
+    private record KeySet(Map<String, PublicKey> publicKeys, SigningKey signingKey, byte[] jwks, String etag) {
+        static final KeySet EMPTY = new KeySet(Map.of(), null, "{\"keys\":[]}".getBytes(), "\"empty\"");
+    }
+
+    /**
+     * Redis 저장 형식: {생성시각}.{PKCS#8 개인키 Base64}.{X.509 공개키 Base64}
+     */
+    private record StoredKey(String kid, long createdAt, PrivateKey privateKey, PublicKey publicKey) {
+
+        static StoredKey parse(String kid, String value) throws GeneralSecurityException {
+            String[] parts = value.split("\\.");
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            return new StoredKey(
+                    kid,
+                    Long.parseLong(parts[0]),
+                    keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(parts[1]))),
+                    keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(parts[2])))
+            );
+        }
+
+        static String format(long createdAt, KeyPair keyPair) {
+            return createdAt
+                    + "." + Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded())
+                    + "." + Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.spring_boot_jwt_boilerplate.config.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * 요청 단위 MDC (모든 로그 라인에 requestId / traceId / memberId 가 붙도록)
+ * 1. requestId: X-Request-Id 헤더 (형식이 올바를 때만) 또는 새로 생성, 응답 헤더로 되돌려줌
+ * 2. traceId: W3C traceparent 헤더의 trace-id, 없으면 requestId
+ * 3. memberId: JwtAuthenticationFilter 가 인증 성공 시 추가
+ * 4. 요청이 끝나면 제거 (풀 / 가상 스레드 재사용 시 값이 섞이지 않도록)
+ * Security 필터 체인보다 먼저 실행되어야 하므로 가장 높은 우선순위로 등록
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RequestMdcFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID = "requestId";
+    public static final String TRACE_ID = "traceId";
+    public static final String MEMBER_ID = "memberId";
+
+    static final String REQUEST_ID_HEADER = "X-Request-Id";
+    private static final String TRACEPARENT_HEADER = "traceparent";
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String requestId = requestId(request.getHeader(REQUEST_ID_HEADER));
+        String traceId = traceId(request.getHeader(TRACEPARENT_HEADER));
+
+        MDC.put(REQUEST_ID, requestId);
+        MDC.put(TRACE_ID, traceId != null ? traceId : requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(REQUEST_ID);
+            MDC.remove(TRACE_ID);
+            MDC.remove(MEMBER_ID);
+        }
+    }
+
+    // 클라이언트 값은 길이 / 문자 제한을 통과할 때만 사용 (로그 주입 방지)
+    private static String requestId(String header) {
+        if (header != null && !header.isEmpty() && header.length() <= MAX_REQUEST_ID_LENGTH && isSafe(header)) {
+            return header;
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    // traceparent: 00-<32 hex trace-id>-<16 hex parent-id>-<2 hex flags>
+    private static String traceId(String traceparent) {
+        if (traceparent == null || traceparent.length() < 55 || traceparent.charAt(2) != '-') {
+            return null;
+        }
+        String traceId = traceparent.substring(3, 35);
+        for (int i = 0; i < traceId.length(); i++) {
+            if (Character.digit(traceId.charAt(i), 16) < 0) {
+                return null;
+            }
+        }
+        return traceId;
+    }
+
+    private static boolean isSafe(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!(Character.isLetterOrDigit(c) && c < 128) && c != '-' && c != '_' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.spring_boot_jwt_boilerplate.config.nativeimage;
+
+import com.example.spring_boot_jwt_boilerplate.dto.admin.MemberImportResponse;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.LoginRequest;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.LoginResponse;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.SessionResponse;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.SignupRequest;
+import com.example.spring_boot_jwt_boilerplate.dto.common.ApiResponse;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * 네이티브 이미지(./gradlew nativeCompile) 용 런타임 힌트
+ * JSON 으로 주고받는 DTO (Lombok getter / 기본 생성자) 는 Jackson 이 리플렉션으로 접근하므로 바인딩 힌트 등록
+ * 컨트롤러 시그니처에 없는 경로(ErrorResponseWriter 의 ApiResponse, 대량 가입의 SignupRequest 스트림)도 포함
+ * JVM 실행 시에는 아무 영향 없음
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeImageHints.class)
+@RegisterReflectionForBinding({
+        ApiResponse.class,
+        LoginRequest.class,
+        LoginResponse.class,
+        SignupRequest.class,
+        SessionResponse.class,
+        MemberImportResponse.class
+})
+public class NativeImageConfig {
+}
@@ -0,0 +1,60 @@
+package com.example.spring_boot_jwt_boilerplate.config.nativeimage;
+
+import com.example.spring_boot_jwt_boilerplate.domain.common.BaseTimeEntity;
+import com.example.spring_boot_jwt_boilerplate.domain.member.Member;
+import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * 네이티브 이미지에서 리플렉션 / 리소스로만 접근되어 정적 분석에 잡히지 않는 타입 등록
+ * 1. jjwt 0.11: api 가 impl / jackson 구현체를 클래스 이름으로 생성 (Classes.newInstance, ServiceLoader)
+ * 2. Hibernate 2차 캐시: JCache provider 를 클래스 이름으로 조회, Caffeine JCache 설정 파일(reference.conf)
+ * 3. 엔티티: Hibernate 가 필드 / 기본 생성자에 리플렉션으로 접근 (Spring AOT 의 JPA 처리에 더해 명시)
+ * Lettuce / Netty / MySQL 드라이버는 jar 에 포함된 metadata 와 GraalVM reachability metadata 저장소를 사용
+ */
+class NativeImageHints implements RuntimeHintsRegistrar {
+
+    private static final String[] JJWT_TYPES = {
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.impl.crypto.EllipticCurveProvider",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    };
+
+    private static final String[] CACHE_TYPES = {
+            "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+            "org.hibernate.cache.jcache.internal.JCacheRegionFactory"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+        for (String type : CACHE_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+        hints.resources().registerPattern("META-INF/services/javax.cache.spi.CachingProvider");
+        hints.resources().registerPattern("reference.conf");
+
+        for (Class<?> entity : new Class<?>[]{Member.class, BaseTimeEntity.class}) {
+            hints.reflection().registerType(entity,
+                    MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+        hints.reflection().registerType(Role.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.spring_boot_jwt_boilerplate.config.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * BCrypt cost(strength) 결정기
+ * 1. password.hash.target-cost 가 지정되어 있으면 그대로 사용
+ * 2. 아니면 기동 시 min-cost 로 해시 시간을 여러 번 측정해 중앙값 사용 (GC / JIT 로 튄 1회 측정에 흔들리지 않도록)
+ * 3. cost 가 1 오를 때마다 시간이 2배가 되므로, latency-budget 안에 드는 최대 cost 를 선택
+ * 측정값은 인스턴스마다 다를 수 있으므로 여러 인스턴스를 운영하면 target-cost 를 고정 (prod 프로필 기본값)
+ */
+@Slf4j
+@Component
+public class BCryptCostCalibrator {
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password-1234";
+    private static final int SAMPLES = 5;
+
+    private final int targetCost;
+    private final Duration latencyBudget;
+    private final int minCost;
+    private final int maxCost;
+
+    public BCryptCostCalibrator(@Value("${password.hash.target-cost:0}") int targetCost,
+                                @Value("${password.hash.latency-budget:250ms}") Duration latencyBudget,
+                                @Value("${password.hash.min-cost:10}") int minCost,
+                                @Value("${password.hash.max-cost:14}") int maxCost) {
+        this.targetCost = targetCost;
+        this.latencyBudget = latencyBudget;
+        this.minCost = minCost;
+        this.maxCost = maxCost;
+    }
+
+    /**
+     * @return 사용할 BCrypt cost
+     */
+    public int resolveCost() {
+        if (targetCost > 0) {
+            log.info("[BCryptCostCalibrator] 설정된 cost 사용: {}", targetCost);
+            return targetCost;
+        }
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minCost);
+        encoder.encode(CALIBRATION_PASSWORD); // 워밍업
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        long elapsedNanos = samples[SAMPLES / 2];
+
+        int cost = minCost;
+        long estimatedNanos = elapsedNanos;
+        while (cost < maxCost && estimatedNanos * 2 <= latencyBudget.toNanos()) {
+            cost++;
+            estimatedNanos *= 2;
+        }
+
+        log.info("[BCryptCostCalibrator] cost {} 측정 중앙값 {}ms ({}회) -> cost {} 선택 (예상 {}ms, 예산 {}ms)",
+                minCost, elapsedNanos / 1_000_000, SAMPLES, cost, estimatedNanos / 1_000_000, latencyBudget.toMillis());
+        return cost;
+    }
+}
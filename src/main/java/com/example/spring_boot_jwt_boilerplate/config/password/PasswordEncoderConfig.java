@@ -0,0 +1,31 @@
+package com.example.spring_boot_jwt_boilerplate.config.password;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * 서블릿 / 리액티브 스택 공통 PasswordEncoder 설정
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    @Bean
+    /**
+     * 1. 신규 해시는 {bcrypt} 접두사 + 측정된 cost 로 생성
+     * 2. 접두사 없이 저장된 기존 해시도 그대로 검증
+     * 3. upgradeEncoding() 이 true 면 로그인 성공 시 재해시 대상
+     */
+    public PasswordEncoder passwordEncoder(BCryptCostCalibrator calibrator) {
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+                "bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(calibrator.resolveCost()))
+        );
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return passwordEncoder;
+    }
+}
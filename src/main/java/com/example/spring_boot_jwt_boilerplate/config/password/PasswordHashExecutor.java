@@ -0,0 +1,157 @@
+package com.example.spring_boot_jwt_boilerplate.config.password;
+
+import com.example.spring_boot_jwt_boilerplate.exception.CustomException;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+/**
+ * 비밀번호 해시(검증/생성) 전용 제한 실행기
+ * 로그인 폭주 시 모든 요청 스레드가 BCrypt 에 묶이지 않도록
+ * 고정 크기 풀 + 제한된 큐로 동시 해시 작업 수를 제한합니다.
+ * 1. 실행 중 + 대기 중 작업이 pool-size + queue-capacity 에 도달하면 즉시 SERVER_BUSY 로 거절 (세마포어)
+ * 2. BCrypt 는 인터럽트를 확인하지 않으므로 timeout 이 지나도 이미 시작된 해시는 끝날 때까지 워커를 점유
+ *    -> 자리는 호출자가 포기할 때가 아니라 해시가 실제로 끝날 때 반납 (아직 큐에 있던 작업만 즉시 제거)
+ * 3. 따라서 timeout 은 응답 지연 상한일 뿐 처리량을 늘리지 않음
+ *    queue-capacity 는 pool-size * (timeout / 해시 1회 시간) 이하로 두어야 대기 작업이 timeout 전에 실행됨
+ */
+@Component
+public class PasswordHashExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore inFlight;
+    private final long timeoutMillis;
+
+    private final Timer matchTimer;
+    private final Timer encodeTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashExecutor(PasswordEncoder passwordEncoder,
+                                MeterRegistry meterRegistry,
+                                @Value("${password.executor.pool-size:0}") int poolSize,
+                                @Value("${password.executor.queue-capacity:64}") int queueCapacity,
+                                @Value("${password.executor.timeout:5s}") Duration timeout) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeout.toMillis();
+        this.inFlight = new Semaphore(threads + queueCapacity);
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                // 0 이면 큐 없이 쉬는 워커가 있을 때만 받음
+                queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>(),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.matchTimer = Timer.builder("password.hash")
+                .tag("operation", "match")
+                .description("BCrypt 해시 계산 시간")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hash")
+                .tag("operation", "encode")
+                .description("BCrypt 해시 계산 시간")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait")
+                .description("해시 작업 큐 대기 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("실행 중 + 대기 중 작업 수 포화로 거절된 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("대기 중인 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 해시 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 평문 비밀번호와 저장된 해시 비교
+     * @param rawPassword 사용자가 입력한 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치 여부
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(matchTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     * @param rawPassword 평문 비밀번호
+     * @return 해시
+     */
+    public String encode(String rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * @return 현재 큐에 대기 중인 작업 수
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        if (!inFlight.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.SERVER_BUSY);
+        }
+
+        long submittedAt = System.nanoTime();
+        // 자리는 해시가 끝난 뒤 반납 (호출자가 timeout 으로 포기해도 실행 중인 해시는 워커를 계속 점유)
+        FutureTask<T> job = new FutureTask<>(() -> {
+            try {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            } finally {
+                inFlight.release();
+            }
+        });
+
+        try {
+            executor.execute(job);
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.SERVER_BUSY);
+        }
+
+        try {
+            return job.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            abandon(job);
+            throw new CustomException(ErrorCode.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            abandon(job);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.SERVER_BUSY);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 해시 처리 실패", e.getCause());
+        }
+    }
+
+    // 아직 큐에 있으면 꺼내고 자리 반납, 이미 실행 중이면 끝날 때 작업 스스로 반납
+    private void abandon(FutureTask<?> job) {
+        if (executor.remove(job)) {
+            inFlight.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
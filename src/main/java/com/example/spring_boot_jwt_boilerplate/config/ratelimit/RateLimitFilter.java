@@ -0,0 +1,65 @@
+package com.example.spring_boot_jwt_boilerplate.config.ratelimit;
+
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorCode;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorResponseWriter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * POST /api/auth/login, /api/auth/reissue 의 IP 별 요청 한도
+ * BCrypt / 토큰 검증 전에 거절하여 크리덴셜 스터핑이 CPU 를 소모하지 못하게 함
+ * (이메일 별 실패 한도는 요청 본문과 인증 결과가 필요하므로 AuthService.authenticate 에서 확인)
+ * 리액티브 스택은 RateLimitWebFilter 가 같은 한도를 적용
+ * 프록시 뒤에서는 server.forward-headers-strategy 설정으로 실제 클라이언트 IP 를 받아야 함
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final String REISSUE_PATH = "/api/auth/reissue";
+
+    private final RateLimiter rateLimiter;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RateLimiter.Scope scope = scopeOf(request.getRequestURI());
+
+        if (scope != null) {
+            long retryAfterMillis = rateLimiter.tryAcquire(scope, request.getRemoteAddr());
+            if (retryAfterMillis > 0) {
+                setErrorResponse(response, RateLimiter.retryAfterSeconds(retryAfterMillis));
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // 한도를 적용할 경로가 아니면 null (RateLimitWebFilter 와 공유)
+    static RateLimiter.Scope scopeOf(String path) {
+        return LOGIN_PATH.equals(path) ? RateLimiter.Scope.LOGIN_IP
+                : REISSUE_PATH.equals(path) ? RateLimiter.Scope.REISSUE_IP
+                : null;
+    }
+
+    // GlobalExceptionHandler 와 같은 ApiResponse 형식
+    private void setErrorResponse(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        errorResponseWriter.write(response, ErrorCode.TOO_MANY_REQUESTS);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.spring_boot_jwt_boilerplate.config.ratelimit;
+
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorCode;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorResponseWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * RateLimitFilter 의 리액티브(WebFlux) 버전
+ * Redis 확인은 ReactiveStringRedisTemplate 으로 수행하여 이벤트 루프를 막지 않습니다.
+ */
+@RequiredArgsConstructor
+public class RateLimitWebFilter implements WebFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!HttpMethod.POST.equals(request.getMethod())) {
+            return chain.filter(exchange);
+        }
+
+        RateLimiter.Scope scope = RateLimitFilter.scopeOf(request.getPath().value());
+        if (scope == null) {
+            return chain.filter(exchange);
+        }
+
+        return rateLimiter.tryAcquireReactive(scope, remoteAddress(request))
+                .flatMap(retryAfterMillis -> retryAfterMillis > 0
+                        ? setErrorResponse(exchange.getResponse(), RateLimiter.retryAfterSeconds(retryAfterMillis))
+                        : chain.filter(exchange));
+    }
+
+    private static String remoteAddress(ServerHttpRequest request) {
+        InetSocketAddress address = request.getRemoteAddress();
+        if (address == null) {
+            return null;
+        }
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+
+    private Mono<Void> setErrorResponse(ServerHttpResponse response, long retryAfterSeconds) {
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return errorResponseWriter.write(response, ErrorCode.TOO_MANY_REQUESTS);
+    }
+}
@@ -0,0 +1,377 @@
+package com.example.spring_boot_jwt_boilerplate.config.ratelimit;
+
+import com.example.spring_boot_jwt_boilerplate.exception.RateLimitExceededException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로그인 / 재발급 요청 한도 (IP 별, 이메일 별)
+ * 1. 로컬 토큰 버킷으로 먼저 확인 -> 한 인스턴스에 몰린 폭주는 Redis 왕복 없이 거절
+ * 2. 통과하면 Redis ZSET 슬라이딩 윈도우 (정리 + 카운트 + 추가를 Lua 한 번의 왕복으로 원자적 처리)
+ * 3. Redis 장애 시에는 허용 (fail-open, rate.limit.requests{result=error} 로 확인)
+ * 4. 이메일 한도(LOGIN_EMAIL)는 실패만 기록하고 성공 시 초기화 -> 남의 이메일로 계정을 잠그려면 비밀번호 실패를 계속 쌓아야 함
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "RL:";
+
+    /**
+     * KEYS[1] = RL:{scope}:{key}, ARGV[1] = 윈도우(ms), ARGV[2] = 허용 횟수, ARGV[3] = 요청 식별자
+     * 허용 -> 0, 거절 -> 가장 오래된 요청이 윈도우를 벗어날 때까지 남은 ms
+     * 시각은 Redis 서버 시간을 사용 (인스턴스 간 시계 차이 무시)
+     */
+    static final RedisScript<Long> SLIDING_WINDOW = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local window = tonumber(ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - window)
+            if redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[2]) then
+                redis.call('ZADD', KEYS[1], now, ARGV[3])
+                redis.call('PEXPIRE', KEYS[1], window)
+                return 0
+            end
+            local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            return math.max(1, tonumber(oldest[2]) + window - now)
+            """, Long.class);
+
+    /**
+     * SLIDING_WINDOW 와 같은 인자, 기록하지 않고 한도 초과 여부만 확인 (실패 횟수 한도용)
+     */
+    static final RedisScript<Long> WINDOW_PEEK = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local window = tonumber(ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - window)
+            if redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[2]) then
+                return 0
+            end
+            local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            return math.max(1, tonumber(oldest[2]) + window - now)
+            """, Long.class);
+
+    public enum Scope {
+        LOGIN_IP("login-ip"),
+        LOGIN_EMAIL("login-email"),
+        REISSUE_IP("reissue-ip");
+
+        private final String tag;
+
+        Scope(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectProvider<ReactiveStringRedisTemplate> reactiveRedisTemplate;
+    private final boolean enabled;
+    private final Map<Scope, Limit> limits = new EnumMap<>(Scope.class);
+    private final Map<Scope, Counters> counters = new EnumMap<>(Scope.class);
+    private final Cache<String, LocalTokenBucket> localBuckets;
+
+    public RateLimiter(StringRedisTemplate redisTemplate,
+                       ObjectProvider<ReactiveStringRedisTemplate> reactiveRedisTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${rate-limit.enabled:true}") boolean enabled,
+                       @Value("${rate-limit.window:1m}") Duration window,
+                       @Value("${rate-limit.login.ip-permits:20}") int loginIpPermits,
+                       @Value("${rate-limit.login.email-permits:5}") int loginEmailPermits,
+                       @Value("${rate-limit.reissue.ip-permits:60}") int reissueIpPermits,
+                       @Value("${rate-limit.local.maximum-keys:100000}") long maximumLocalKeys) {
+        this.redisTemplate = redisTemplate;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.enabled = enabled;
+        limits.put(Scope.LOGIN_IP, new Limit(loginIpPermits, window));
+        limits.put(Scope.LOGIN_EMAIL, new Limit(loginEmailPermits, window));
+        limits.put(Scope.REISSUE_IP, new Limit(reissueIpPermits, window));
+
+        for (Scope scope : Scope.values()) {
+            counters.put(scope, new Counters(meterRegistry, scope.tag));
+        }
+
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(maximumLocalKeys)
+                .expireAfterAccess(window.multipliedBy(2))
+                .build();
+    }
+
+    /**
+     * @param scope 한도 종류
+     * @param key   IP 또는 이메일
+     * @throws RateLimitExceededException 한도 초과 시
+     */
+    public void check(Scope scope, String key) {
+        throwIfLimited(tryAcquire(scope, key));
+    }
+
+    /**
+     * @return 0 이면 허용, 양수면 재시도까지 남은 ms
+     */
+    public long tryAcquire(Scope scope, String key) {
+        if (!enabled || key == null) {
+            return 0L;
+        }
+
+        String normalized = normalize(key);
+
+        // 1. 로컬 토큰 버킷 (인스턴스 하나가 전체 한도를 혼자 넘기면 Redis 조회 없이 거절)
+        long localRetryAfter = localBucket(scope, normalized).tryConsume(System.nanoTime());
+        if (localRetryAfter > 0) {
+            counters.get(scope).rejectedLocal.increment();
+            return localRetryAfter;
+        }
+
+        // 2. Redis 슬라이딩 윈도우 (전체 인스턴스 합산)
+        try {
+            return onWindowResult(scope, redisTemplate.execute(
+                    SLIDING_WINDOW, redisKeys(scope, normalized), windowArgs(scope).toArray()));
+        } catch (RuntimeException e) {
+            return onRedisError(scope, e);
+        }
+    }
+
+    /**
+     * tryAcquire 의 리액티브 버전 (WebFlux 필터용, 이벤트 루프를 막지 않음)
+     */
+    public Mono<Long> tryAcquireReactive(Scope scope, String key) {
+        if (!enabled || key == null) {
+            return Mono.just(0L);
+        }
+
+        String normalized = normalize(key);
+
+        long localRetryAfter = localBucket(scope, normalized).tryConsume(System.nanoTime());
+        if (localRetryAfter > 0) {
+            counters.get(scope).rejectedLocal.increment();
+            return Mono.just(localRetryAfter);
+        }
+
+        return Mono.defer(() -> reactiveRedisTemplate.getObject()
+                        .execute(SLIDING_WINDOW, redisKeys(scope, normalized), windowArgs(scope))
+                        .next())
+                .defaultIfEmpty(0L)
+                .map(retryAfter -> onWindowResult(scope, retryAfter))
+                .onErrorResume(RuntimeException.class, e -> Mono.just(onRedisError(scope, e)));
+    }
+
+    /**
+     * 실패 횟수 한도 확인 (기록하지 않음)
+     * 1. 윈도우 안의 실패가 한도에 도달했으면 거절, 요청 자체는 세지 않음
+     * 2. 실패는 recordFailure, 성공은 resetFailures 로 반영
+     *
+     * @throws RateLimitExceededException 한도 초과 시
+     */
+    public void checkFailures(Scope scope, String key) {
+        if (!enabled || key == null) {
+            return;
+        }
+
+        String normalized = normalize(key);
+
+        long localRetryAfter = localBucket(scope, normalized).peek(System.nanoTime());
+        if (localRetryAfter > 0) {
+            counters.get(scope).rejectedLocal.increment();
+            throwIfLimited(localRetryAfter);
+        }
+
+        long retryAfter;
+        try {
+            retryAfter = onWindowResult(scope, redisTemplate.execute(
+                    WINDOW_PEEK, redisKeys(scope, normalized), windowArgs(scope).toArray()));
+        } catch (RuntimeException e) {
+            retryAfter = onRedisError(scope, e);
+        }
+        throwIfLimited(retryAfter);
+    }
+
+    /**
+     * 실패 1회 기록 (이미 한도에 도달한 윈도우에는 더 쌓지 않음)
+     */
+    public void recordFailure(Scope scope, String key) {
+        if (!enabled || key == null) {
+            return;
+        }
+
+        String normalized = normalize(key);
+        localBucket(scope, normalized).tryConsume(System.nanoTime());
+        try {
+            redisTemplate.execute(SLIDING_WINDOW, redisKeys(scope, normalized), windowArgs(scope).toArray());
+        } catch (RuntimeException e) {
+            log.warn("[RateLimiter] 실패 기록 실패: {}", e.getMessage());
+            counters.get(scope).error.increment();
+        }
+    }
+
+    /**
+     * 성공 시 누적된 실패 기록 삭제 (다른 인스턴스의 로컬 버킷은 윈도우에 따라 자연히 채워짐)
+     */
+    public void resetFailures(Scope scope, String key) {
+        if (!enabled || key == null) {
+            return;
+        }
+
+        String normalized = normalize(key);
+        localBuckets.invalidate(scope.tag + ':' + normalized);
+        try {
+            redisTemplate.delete(KEY_PREFIX + scope.tag + ':' + normalized);
+        } catch (RuntimeException e) {
+            log.warn("[RateLimiter] 실패 기록 초기화 실패: {}", e.getMessage());
+            counters.get(scope).error.increment();
+        }
+    }
+
+    /**
+     * Retry-After 헤더 값 (초 단위 올림)
+     */
+    public static long retryAfterSeconds(long retryAfterMillis) {
+        return TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis + 999);
+    }
+
+    private static void throwIfLimited(long retryAfterMillis) {
+        if (retryAfterMillis > 0) {
+            throw new RateLimitExceededException(retryAfterSeconds(retryAfterMillis));
+        }
+    }
+
+    private static String normalize(String key) {
+        return key.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private LocalTokenBucket localBucket(Scope scope, String normalized) {
+        Limit limit = limits.get(scope);
+        return localBuckets.get(scope.tag + ':' + normalized,
+                k -> new LocalTokenBucket(limit.permits(), limit.window()));
+    }
+
+    private static List<String> redisKeys(Scope scope, String normalized) {
+        return List.of(KEY_PREFIX + scope.tag + ':' + normalized);
+    }
+
+    private List<String> windowArgs(Scope scope) {
+        Limit limit = limits.get(scope);
+        return List.of(
+                String.valueOf(limit.window().toMillis()),
+                String.valueOf(limit.permits()),
+                UUID.randomUUID().toString());
+    }
+
+    private long onWindowResult(Scope scope, Long retryAfter) {
+        if (retryAfter != null && retryAfter > 0) {
+            counters.get(scope).rejected.increment();
+            return retryAfter;
+        }
+        counters.get(scope).allowed.increment();
+        return 0L;
+    }
+
+    private long onRedisError(Scope scope, RuntimeException e) {
+        log.warn("[RateLimiter] Redis 확인 실패, 요청 허용: {}", e.getMessage());
+        counters.get(scope).error.increment();
+        return 0L;
+    }
+
+    record Limit(int permits, Duration window) {
+    }
+
+    /**
+     * 윈도우당 permits 만큼 일정하게 채워지는 토큰 버킷 (최대 permits 개)
+     * synchronized 대신 ReentrantLock -> 가상 스레드가 대기 중에 carrier 를 점유하지 않음
+     */
+    static final class LocalTokenBucket {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long updatedAt;
+
+        LocalTokenBucket(int permits, Duration window) {
+            this.capacity = permits;
+            this.tokensPerNano = (double) permits / window.toNanos();
+            this.tokens = permits;
+            this.updatedAt = System.nanoTime();
+        }
+
+        /**
+         * @return 0 이면 토큰 소비 성공, 양수면 다음 토큰까지 남은 ms
+         */
+        long tryConsume(long now) {
+            lock.lock();
+            try {
+                refill(now);
+                if (tokens >= 1.0) {
+                    tokens -= 1.0;
+                    return 0L;
+                }
+                return millisUntilNextToken();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * @return 0 이면 남은 토큰 있음, 양수면 다음 토큰까지 남은 ms (토큰은 소비하지 않음)
+         */
+        long peek(long now) {
+            lock.lock();
+            try {
+                refill(now);
+                return tokens >= 1.0 ? 0L : millisUntilNextToken();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - updatedAt) * tokensPerNano);
+            updatedAt = now;
+        }
+
+        private long millisUntilNextToken() {
+            return Math.max(1L, TimeUnit.NANOSECONDS.toMillis((long) ((1.0 - tokens) / tokensPerNano)));
+        }
+    }
+
+    private static final class Counters {
+
+        final Counter allowed;
+        final Counter rejectedLocal;
+        final Counter rejected;
+        final Counter error;
+
+        Counters(MeterRegistry registry, String scope) {
+            this.allowed = counter(registry, scope, "allowed");
+            this.rejectedLocal = counter(registry, scope, "rejected_local");
+            this.rejected = counter(registry, scope, "rejected");
+            this.error = counter(registry, scope, "error");
+        }
+
+        private static Counter counter(MeterRegistry registry, String scope, String result) {
+            return Counter.builder("rate.limit.requests")
+                    .tag("scope", scope)
+                    .tag("result", result)
+                    .description("요청 한도 확인 결과")
+                    .register(registry);
+        }
+    }
+}
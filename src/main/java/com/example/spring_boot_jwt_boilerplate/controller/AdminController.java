@@ -0,0 +1,63 @@
+package com.example.spring_boot_jwt_boilerplate.controller;
+
+import com.example.spring_boot_jwt_boilerplate.dto.admin.MemberImportResponse;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.SessionResponse;
+import com.example.spring_boot_jwt_boilerplate.dto.common.ApiResponse;
+import com.example.spring_boot_jwt_boilerplate.service.AdminService;
+import com.example.spring_boot_jwt_boilerplate.service.bulk.MemberImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AdminController {
+    private final AdminService adminService;
+    private final MemberImportService memberImportService;
+
+    @PostMapping("/members/{email}/revoke-tokens")
+    /**
+     * 특정 회원의 발급된 모든 토큰 강제 폐기 (ROLE_ADMIN 전용, SecurityConfig 참고)
+     */
+    public ResponseEntity<ApiResponse<Void>> revokeMemberTokens(@PathVariable String email) {
+        adminService.revokeMemberTokens(email);
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+
+    @GetMapping("/members/{email}/sessions")
+    /**
+     * 특정 회원의 로그인 세션(기기) 목록
+     */
+    public ResponseEntity<ApiResponse<List<SessionResponse>>> memberSessions(@PathVariable String email) {
+        return ResponseEntity.ok(ApiResponse.success(adminService.findMemberSessions(email)));
+    }
+
+    @DeleteMapping("/members/{email}/sessions/{sessionId}")
+    /**
+     * 특정 회원의 세션 하나 강제 종료
+     */
+    public ResponseEntity<ApiResponse<Void>> revokeMemberSession(@PathVariable String email, @PathVariable String sessionId) {
+        adminService.revokeMemberSession(email, sessionId);
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+
+    @PostMapping(value = "/members/import",
+            consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    /**
+     * 회원 대량 가입 (CSV: email,password,nickname 헤더 / JSON 배열 / NDJSON)
+     * 본문을 메모리에 모두 올리지 않고 스트리밍으로 처리
+     */
+    public ResponseEntity<ApiResponse<MemberImportResponse>> importMembers(HttpServletRequest request) throws IOException {
+        MemberImportResponse result = memberImportService.importMembers(
+                request.getInputStream(), MediaType.parseMediaType(request.getContentType()));
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+}
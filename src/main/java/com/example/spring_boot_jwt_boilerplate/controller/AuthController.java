@@ -1,20 +1,29 @@
 package com.example.spring_boot_jwt_boilerplate.controller;
 
+import com.example.spring_boot_jwt_boilerplate.config.AuthenticatedMember;
+import com.example.spring_boot_jwt_boilerplate.config.VerifiedToken;
 import com.example.spring_boot_jwt_boilerplate.dto.auth.LoginRequest;
 import com.example.spring_boot_jwt_boilerplate.dto.auth.LoginResponse;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.SessionResponse;
 import com.example.spring_boot_jwt_boilerplate.dto.auth.SignupRequest;
 import com.example.spring_boot_jwt_boilerplate.dto.common.ApiResponse;
 import com.example.spring_boot_jwt_boilerplate.service.AuthService;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class AuthController {
     private final AuthService authService;
 
@@ -24,9 +33,10 @@ public class AuthController {
      */
     public ResponseEntity<ApiResponse<LoginResponse>> login(
             @RequestBody @Valid LoginRequest loginRequest,
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
             HttpServletResponse response) {
 
-        LoginResponse loginResponse = authService.login(loginRequest, response);
+        LoginResponse loginResponse = authService.login(loginRequest, userAgent, response);
         return ResponseEntity.ok(ApiResponse.success(loginResponse));
     }
 
@@ -71,12 +81,39 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success(loginResponse));
     }
 
+    @PostMapping("/logout")
+    /**
+     * 로그아웃 (현재 AT 폐기 + 현재 기기 세션 삭제)
+     */
+    public ResponseEntity<ApiResponse<Void>> logout(Authentication authentication, HttpServletResponse response) {
+        authService.logout((VerifiedToken) authentication.getDetails(), response);
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+
+    @GetMapping("/sessions")
+    /**
+     * 내 로그인 세션(기기) 목록 (current=true 가 현재 기기)
+     */
+    public ResponseEntity<ApiResponse<List<SessionResponse>>> sessions(Authentication authentication) {
+        List<SessionResponse> sessions = authService.findSessions((VerifiedToken) authentication.getDetails());
+        return ResponseEntity.ok(ApiResponse.success(sessions));
+    }
+
+    @DeleteMapping("/sessions/{sessionId}")
+    /**
+     * 특정 기기 로그아웃 (해당 세션의 Refresh Token 무효화)
+     */
+    public ResponseEntity<ApiResponse<Void>> revokeSession(Authentication authentication, @PathVariable String sessionId) {
+        authService.revokeSession((VerifiedToken) authentication.getDetails(), sessionId);
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+
     @GetMapping("/test")
     /**
      * 인증 테스트 엔드포인트
      * Optional 원하면 삭제
      */
-    public ResponseEntity<String> testMe(@AuthenticationPrincipal String email) {
-        return ResponseEntity.ok("인증 성공! 현재 사용자: " + email);
+    public ResponseEntity<String> testMe(@AuthenticationPrincipal AuthenticatedMember member) {
+        return ResponseEntity.ok("인증 성공! 현재 사용자: " + member.email() + " (" + member.role() + ")");
     }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.example.spring_boot_jwt_boilerplate.controller;
+
+import com.example.spring_boot_jwt_boilerplate.config.jwk.JwtKeyRing;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 공개키 배포 (JWKS)
+ * 서블릿 / 리액티브 스택 모두에서 동작하며, HS256 모드에서는 빈 키 목록을 반환합니다.
+ */
+@RestController
+public class JwksController {
+
+    private static final byte[] EMPTY_JWKS = "{\"keys\":[]}".getBytes(StandardCharsets.UTF_8);
+    private static final String EMPTY_ETAG = "\"empty\"";
+
+    private final ObjectProvider<JwtKeyRing> keyRing;
+    private final CacheControl cacheControl;
+
+    /**
+     * 캐시 수명은 JwtKeyRing 의 활성화 지연 계산과 같은 설정값 사용
+     * (새 키는 이 캐시가 만료된 뒤에야 서명에 쓰이므로 캐시된 JWKS 로도 항상 검증 가능)
+     */
+    public JwksController(ObjectProvider<JwtKeyRing> keyRing,
+                          @Value("${jwt.signing.jwks-max-age:5m}") Duration maxAge,
+                          @Value("${jwt.signing.jwks-stale-while-revalidate:1m}") Duration staleWhileRevalidate) {
+        this.keyRing = keyRing;
+        this.cacheControl = CacheControl.maxAge(maxAge)
+                .cachePublic()
+                .staleWhileRevalidate(staleWhileRevalidate);
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    /**
+     * 키 링이 갱신될 때 미리 직렬화해 둔 본문을 그대로 반환 (요청마다 직렬화 없음)
+     * If-None-Match 가 현재 ETag 와 같으면 304
+     */
+    public ResponseEntity<byte[]> jwks(@RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        JwtKeyRing ring = keyRing.getIfAvailable();
+        byte[] body = ring != null ? ring.jwksBody() : EMPTY_JWKS;
+        String etag = ring != null ? ring.jwksETag() : EMPTY_ETAG;
+
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(body);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.spring_boot_jwt_boilerplate.controller;
+
+import com.example.spring_boot_jwt_boilerplate.config.AuthenticatedMember;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.LoginRequest;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.LoginResponse;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.SignupRequest;
+import com.example.spring_boot_jwt_boilerplate.dto.common.ApiResponse;
+import com.example.spring_boot_jwt_boilerplate.service.ReactiveAuthService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * AuthController 의 리액티브 버전 (spring.main.web-application-type=reactive 일 때만 등록)
+ */
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAuthController {
+    private final ReactiveAuthService reactiveAuthService;
+
+    @PostMapping("/login")
+    /**
+     * 로그인 엔드포인트
+     */
+    public Mono<ResponseEntity<ApiResponse<LoginResponse>>> login(
+            @RequestBody @Valid LoginRequest loginRequest,
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
+            ServerHttpResponse response) {
+
+        return reactiveAuthService.login(loginRequest, userAgent, response)
+                .map(loginResponse -> ResponseEntity.ok(ApiResponse.success(loginResponse)));
+    }
+
+    @PostMapping("/signup")
+    /**
+     * 회원가입 엔드포인트
+     */
+    public Mono<ResponseEntity<ApiResponse<String>>> signup(
+            @RequestBody @Valid SignupRequest signupRequest) {
+
+        return reactiveAuthService.signup(signupRequest)
+                .map(result -> ResponseEntity.ok(ApiResponse.success(result)));
+    }
+
+    @GetMapping("/check-email")
+    /**
+     * 중복이면 true, 없으면 false 반환
+     */
+    public Mono<ResponseEntity<ApiResponse<Boolean>>> checkEmail(@RequestParam String email) {
+        return reactiveAuthService.isEmailDuplicate(email)
+                .map(isDuplicate -> ResponseEntity.ok(ApiResponse.success(isDuplicate)));
+    }
+
+    @GetMapping("/check-nickname")
+    /**
+     * 중복이면 true, 없으면 false 반환
+     */
+    public Mono<ResponseEntity<ApiResponse<Boolean>>> checkNickname(@RequestParam String nickname) {
+        return reactiveAuthService.isNicknameDuplicate(nickname)
+                .map(isDuplicate -> ResponseEntity.ok(ApiResponse.success(isDuplicate)));
+    }
+
+    @PostMapping("/reissue")
+    /**
+     * RT Alive 시 AT 반환
+     */
+    public Mono<ResponseEntity<ApiResponse<LoginResponse>>> reissue(
+            @CookieValue(name = "refreshToken") String refreshToken,
+            ServerHttpResponse response) {
+
+        return reactiveAuthService.reissue(refreshToken, response)
+                .map(loginResponse -> ResponseEntity.ok(ApiResponse.success(loginResponse)));
+    }
+
+    @GetMapping("/test")
+    /**
+     * 인증 테스트 엔드포인트
+     */
+    public Mono<ResponseEntity<String>> testMe(@AuthenticationPrincipal AuthenticatedMember member) {
+        return Mono.just(ResponseEntity.ok("인증 성공! 현재 사용자: " + member.email() + " (" + member.role() + ")"));
+    }
+}
@@ -1,22 +1,38 @@
 package com.example.spring_boot_jwt_boilerplate.domain.member;
 
+import com.example.spring_boot_jwt_boilerplate.config.cache.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
-@Table(name = "members")
+// 중복 가입은 조회가 아닌 유니크 인덱스로 판정 (이름으로 어느 필드가 충돌했는지 구분)
+@Table(name = "members", uniqueConstraints = {
+        @UniqueConstraint(name = Member.EMAIL_UNIQUE, columnNames = "email"),
+        @UniqueConstraint(name = Member.NICKNAME_UNIQUE, columnNames = "nickname")
+})
+// 2차 캐시: 수정(updateNickname 등)은 커밋 시 캐시에 반영, 신규 가입은 조회 실패를 캐시하지 않으므로 바로 보임
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.MEMBER_REGION)
+@NaturalIdCache(region = HibernateCacheConfig.MEMBER_EMAIL_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member {
 
+    public static final String EMAIL_UNIQUE = "uk_members_email";
+    public static final String NICKNAME_UNIQUE = "uk_members_nickname";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 50)
+    @NaturalId // 불변 (변경 시 Hibernate 가 예외 발생)
+    @Column(nullable = false, length = 50)
     private String email;
 
     @Column(nullable = false)
@@ -40,4 +56,8 @@ public class Member {
     public void updateNickname(String newNickname) {
         this.nickname = newNickname;
     }
+
+    public void updatePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
 }
\ No newline at end of file
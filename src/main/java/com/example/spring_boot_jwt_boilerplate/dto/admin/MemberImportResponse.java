@@ -0,0 +1,16 @@
+package com.example.spring_boot_jwt_boilerplate.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class MemberImportResponse {
+    private long requested;     // 읽은 행 수
+    private long imported;      // 새로 저장된 회원 수
+    private long duplicates;    // 이미 존재하거나 입력 안에서 중복된 이메일/닉네임
+    private long invalid;       // 형식 / 검증 실패
+    private long elapsedMillis;
+}
@@ -0,0 +1,31 @@
+package com.example.spring_boot_jwt_boilerplate.dto.auth;
+
+import com.example.spring_boot_jwt_boilerplate.repository.token.RefreshSession;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class SessionResponse {
+    private String sessionId;
+    private String device;       // 로그인 시 User-Agent
+    private Instant createdAt;   // 로그인 시각
+    private Instant lastUsedAt;  // 마지막 재발급 시각
+    private Instant expiresAt;
+    private boolean current;     // 이 요청의 Access Token 과 같은 세션인지
+
+    public static SessionResponse of(RefreshSession session, String currentSessionId) {
+        return SessionResponse.builder()
+                .sessionId(session.sessionId())
+                .device(session.device())
+                .createdAt(Instant.ofEpochMilli(session.createdAt()))
+                .lastUsedAt(Instant.ofEpochMilli(session.lastUsedAt()))
+                .expiresAt(Instant.ofEpochMilli(session.expiresAt()))
+                .current(session.sessionId().equals(currentSessionId))
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.spring_boot_jwt_boilerplate.exception;
+
+import com.example.spring_boot_jwt_boilerplate.dto.common.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ErrorCode 별 실패 응답(ApiResponse.fail) 을 기동 시 한 번만 UTF-8 바이트로 직렬화해 두고 그대로 출력
+ * 1. 필터(서블릿 / 리액티브): 요청마다 JSON 생성 / 문자열 연결 없이 바이트 배열을 바로 write
+ * 2. GlobalExceptionHandler: 미리 만든 ResponseEntity<byte[]> 를 재사용 (메시지 변환기가 그대로 복사)
+ * 무효 토큰 폭주 시에도 거절 경로의 할당이 응답 객체 자체로 한정됨
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+
+    private final Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+    private final Map<ErrorCode, ResponseEntity<byte[]>> entities = new EnumMap<>(ErrorCode.class);
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            byte[] body = serialize(objectMapper, errorCode);
+            bodies.put(errorCode, body);
+            entities.put(errorCode, ResponseEntity
+                    .status(errorCode.getStatus())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body));
+        }
+    }
+
+    private static byte[] serialize(ObjectMapper objectMapper, ErrorCode errorCode) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.fail(errorCode.getMessage()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("ErrorCode 응답 직렬화 실패: " + errorCode, e);
+        }
+    }
+
+    /**
+     * 서블릿 필터 / 핸들러에서 응답 본문 출력
+     */
+    public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        byte[] body = bodies.get(errorCode);
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * 리액티브 필터 / 핸들러에서 응답 본문 출력 (바이트 배열을 복사 없이 감쌈)
+     */
+    public Mono<Void> write(ServerHttpResponse response, ErrorCode errorCode) {
+        byte[] body = bodies.get(errorCode);
+        response.setStatusCode(errorCode.getStatus());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    /**
+     * @return 상태 코드 + 본문이 고정된 응답 (불변이므로 요청 간 공유)
+     */
+    public ResponseEntity<byte[]> toResponseEntity(ErrorCode errorCode) {
+        return entities.get(errorCode);
+    }
+
+    /**
+     * 추가 헤더가 필요한 경우 (예: Retry-After) 사용할 본문
+     */
+    public byte[] body(ErrorCode errorCode) {
+        return bodies.get(errorCode);
+    }
+}
@@ -1,26 +1,47 @@
 package com.example.spring_boot_jwt_boilerplate.exception;
 
 import com.example.spring_boot_jwt_boilerplate.dto.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    // ErrorCode 별로 미리 직렬화된 응답 (요청마다 ApiResponse / JSON 생성 없음)
+    private final ErrorResponseWriter errorResponseWriter;
+
     /**
      * 1. @Valid 검증 실패 시 (400 Bad Request)
      * DTO의 어노테이션(@NotNull, @Email 등) 위반 시 발생
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationException(MethodArgumentNotValidException ex) {
-        BindingResult bindingResult = ex.getBindingResult();
+        return validationFailure(ex.getBindingResult());
+    }
+
+    /**
+     * 1-1. 리액티브 스택(WebFlux)의 @Valid 검증 실패 (400 Bad Request)
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiResponse<Map<String, String>>> handleWebExchangeBindException(WebExchangeBindException ex) {
+        return validationFailure(ex.getBindingResult());
+    }
+
+    private ResponseEntity<ApiResponse<Map<String, String>>> validationFailure(BindingResult bindingResult) {
         Map<String, String> errors = new HashMap<>();
 
         for (FieldError fieldError : bindingResult.getFieldErrors()) {
@@ -37,21 +58,30 @@ public class GlobalExceptionHandler {
      * 개발자가 의도적으로 발생시킨 예외 (예: 중복 이메일, 회원 없음 등)
      */
     @ExceptionHandler(CustomException.class)
-    public ResponseEntity<ApiResponse<Void>> handleCustomException(CustomException ex) {
+    public ResponseEntity<byte[]> handleCustomException(CustomException ex) {
+        return errorResponseWriter.toResponseEntity(ex.getErrorCode());
+    }
+
+    /**
+     * 2-1. 요청 한도 초과 (429 Too Many Requests) + Retry-After 헤더
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<byte[]> handleRateLimitExceededException(RateLimitExceededException ex) {
         return ResponseEntity
                 .status(ex.getErrorCode().getStatus())
-                .body(ApiResponse.fail(ex.getErrorCode().getMessage()));
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponseWriter.body(ex.getErrorCode()));
     }
 
     /**
      * 3. 나머지 모든 예외 (500 Server Error)
      * 예상치 못한 에러
+     * 예외 메시지는 내부 정보를 노출할 수 있으므로 응답에 넣지 않고 로그로만 남김 (requestId 로 추적)
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiResponse<String>> handleException(Exception ex) {
-        // 실제 운영에서는 에러 로그를 남겨야 함 (log.error("Error", ex))
-        return ResponseEntity
-                .status(ErrorCode.INTERNAL_SERVER_ERROR.getStatus())
-                .body(ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR.getMessage(), ex.getMessage()));
+    public ResponseEntity<byte[]> handleException(Exception ex) {
+        log.error("Unhandled exception", ex);
+        return errorResponseWriter.toResponseEntity(ErrorCode.INTERNAL_SERVER_ERROR);
     }
 }
\ No newline at end of file
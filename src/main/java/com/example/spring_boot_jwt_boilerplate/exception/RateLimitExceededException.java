@@ -0,0 +1,17 @@
+package com.example.spring_boot_jwt_boilerplate.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 한도 초과 (429) - 재시도 가능 시점을 Retry-After 헤더로 전달
+ */
+@Getter
+public class RateLimitExceededException extends CustomException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
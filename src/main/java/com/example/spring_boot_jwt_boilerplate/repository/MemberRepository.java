@@ -1,18 +1,14 @@
 package com.example.spring_boot_jwt_boilerplate.repository;
 
 import com.example.spring_boot_jwt_boilerplate.domain.member.Member;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-import java.util.Optional;
-
-public interface MemberRepository extends JpaRepository<Member, Integer> {
-    /**
-     * 로그인을 위해 이메일로 회원 정보를 조회하는 메서드
-     * @param email 사용자가 전달한 이메일
-     * @return Optional<Member>
-     */
-    Optional<Member> findByEmail(String email);
+import java.util.stream.Stream;
 
+public interface MemberRepository extends JpaRepository<Member, Integer>, MemberRepositoryCustom {
     /**
      * 회원가입 시 중복 가입 방지를 위한 체크 메서드
      * @param email 사용자가 전달한 이메일
@@ -26,4 +22,19 @@ public interface MemberRepository extends JpaRepository<Member, Integer> {
      * @return boolean(true/false)
      */
     boolean existsByNickname(String nickname);
+
+    /**
+     * 사용 가능 여부 인덱스(Bloom filter) 재구성용 전체 스트리밍 조회
+     * 트랜잭션 안에서 사용하고 반드시 close 해야 함
+     * @return 이메일 / 닉네임 스트림
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select m.email as email, m.nickname as nickname from Member m")
+    Stream<MemberIdentifiers> streamAllIdentifiers();
+
+    interface MemberIdentifiers {
+        String getEmail();
+
+        String getNickname();
+    }
 }
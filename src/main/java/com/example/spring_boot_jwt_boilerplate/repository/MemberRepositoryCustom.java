@@ -0,0 +1,19 @@
+package com.example.spring_boot_jwt_boilerplate.repository;
+
+import com.example.spring_boot_jwt_boilerplate.domain.member.Member;
+
+import java.util.Optional;
+
+/**
+ * 파생 쿼리 대신 Hibernate natural-id 조회를 사용하는 커스텀 메서드
+ */
+public interface MemberRepositoryCustom {
+
+    /**
+     * 로그인을 위해 이메일로 회원 정보를 조회하는 메서드
+     * natural-id 캐시 -> 엔티티 2차 캐시 순으로 확인하고, 둘 다 적중하면 SQL 을 실행하지 않음
+     * @param email 사용자가 전달한 이메일
+     * @return Optional<Member>
+     */
+    Optional<Member> findByEmail(String email);
+}
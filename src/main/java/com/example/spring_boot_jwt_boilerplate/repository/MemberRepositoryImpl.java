@@ -0,0 +1,23 @@
+package com.example.spring_boot_jwt_boilerplate.repository;
+
+import com.example.spring_boot_jwt_boilerplate.domain.member.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class MemberRepositoryImpl implements MemberRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true) // 트랜잭션 밖에서 호출되어도 unwrap 한 Session 이 닫히지 않도록
+    public Optional<Member> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Member.class)
+                .loadOptional(email);
+    }
+}
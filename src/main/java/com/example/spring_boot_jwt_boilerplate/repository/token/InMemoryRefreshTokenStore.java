@@ -0,0 +1,121 @@
+package com.example.spring_boot_jwt_boilerplate.repository.token;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 Refresh Token 세션 저장소 (테스트 / 로컬 실행용, refresh-token.store=memory)
+ * Redis 구현과 같은 규칙: 사용자 단위 compute 로 원자적 처리, 만료 세션은 새 세션 등록 시 정리
+ */
+@Repository
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, Map<String, RefreshSession>> sessions = new ConcurrentHashMap<>();
+    private final int maxSessions;
+
+    public InMemoryRefreshTokenStore(@Value("${refresh-token.max-sessions-per-user:10}") int maxSessions) {
+        this.maxSessions = Math.max(1, maxSessions);
+    }
+
+    @Override
+    public void create(String email, RefreshSession session, Duration ttl) {
+        long now = System.currentTimeMillis();
+        sessions.compute(email, (key, userSessions) -> {
+            Map<String, RefreshSession> result = userSessions != null ? userSessions : new ConcurrentHashMap<>();
+            result.values().removeIf(existing -> existing.isExpired(now));
+            if (result.size() >= maxSessions) {
+                result.values().stream()
+                        .min(Comparator.comparingLong(RefreshSession::lastUsedAt))
+                        .ifPresent(oldest -> result.remove(oldest.sessionId()));
+            }
+            result.put(session.sessionId(), session);
+            return result;
+        });
+    }
+
+    @Override
+    public RotationResult rotate(String email, String sessionId, String expectedTokenId, String newTokenId, Duration ttl) {
+        long now = System.currentTimeMillis();
+        RotationResult[] result = {RotationResult.NOT_FOUND};
+        sessions.computeIfPresent(email, (key, userSessions) -> {
+            RefreshSession current = userSessions.get(sessionId);
+            if (current == null) {
+                return userSessions;
+            }
+            if (current.isExpired(now)) {
+                userSessions.remove(sessionId);
+            } else if (!current.tokenId().equals(expectedTokenId)) {
+                userSessions.remove(sessionId);
+                result[0] = RotationResult.REUSED;
+            } else {
+                userSessions.put(sessionId, new RefreshSession(sessionId, newTokenId,
+                        current.createdAt(), now, now + ttl.toMillis(), current.device()));
+                result[0] = RotationResult.ROTATED;
+            }
+            return userSessions.isEmpty() ? null : userSessions;
+        });
+        return result[0];
+    }
+
+    @Override
+    public List<RefreshSession> findSessions(String email) {
+        Map<String, RefreshSession> userSessions = sessions.get(email);
+        if (userSessions == null) {
+            return List.of();
+        }
+
+        long now = System.currentTimeMillis();
+        List<RefreshSession> result = new ArrayList<>();
+        for (RefreshSession session : userSessions.values()) {
+            if (!session.isExpired(now)) {
+                result.add(session);
+            }
+        }
+        result.sort(Comparator.comparingLong(RefreshSession::lastUsedAt).reversed());
+        return result;
+    }
+
+    @Override
+    public Map<String, List<RefreshSession>> findSessions(Collection<String> emails) {
+        Map<String, List<RefreshSession>> result = new HashMap<>();
+        for (String email : emails) {
+            List<RefreshSession> userSessions = findSessions(email);
+            if (!userSessions.isEmpty()) {
+                result.put(email, userSessions);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean revoke(String email, String sessionId) {
+        boolean[] removed = {false};
+        sessions.computeIfPresent(email, (key, userSessions) -> {
+            removed[0] = userSessions.remove(sessionId) != null;
+            return userSessions.isEmpty() ? null : userSessions;
+        });
+        return removed[0];
+    }
+
+    @Override
+    public void revokeAll(String email) {
+        sessions.remove(email);
+    }
+
+    @Override
+    public long revokeAll(Collection<String> emails) {
+        long deleted = 0;
+        for (String email : emails) {
+            if (sessions.remove(email) != null) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.spring_boot_jwt_boilerplate.repository.token;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Redis 기반 Refresh Token 세션 저장소 (사용자별 Hash, RefreshTokenScripts 참고)
+ * 1. create / rotate: Lua 스크립트로 한 번의 왕복에 원자적으로 처리 (rotate 는 필드 하나만 읽고 씀)
+ * 2. findSessions(emails) / revokeAll(emails): 파이프라이닝으로 N 개 명령을 한 번에 전송
+ * 3. 연산별 지연 시간을 refresh.token.store 타이머로 기록
+ */
+@Repository
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String maxSessions;
+    private final Timer createTimer;
+    private final Timer rotateTimer;
+    private final Timer findSessionsTimer;
+    private final Timer findAllTimer;
+    private final Timer revokeTimer;
+    private final Timer revokeAllTimer;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${refresh-token.max-sessions-per-user:10}") int maxSessions) {
+        this.redisTemplate = redisTemplate;
+        this.maxSessions = String.valueOf(Math.max(1, maxSessions));
+        this.createTimer = timer(meterRegistry, "create");
+        this.rotateTimer = timer(meterRegistry, "rotate");
+        this.findSessionsTimer = timer(meterRegistry, "find_sessions");
+        this.findAllTimer = timer(meterRegistry, "find_all");
+        this.revokeTimer = timer(meterRegistry, "revoke");
+        this.revokeAllTimer = timer(meterRegistry, "revoke_all");
+    }
+
+    @Override
+    public void create(String email, RefreshSession session, Duration ttl) {
+        timed(createTimer, () -> redisTemplate.execute(
+                RefreshTokenScripts.CREATE,
+                List.of(RefreshTokenScripts.key(email)),
+                session.sessionId(), session.encode(), String.valueOf(System.currentTimeMillis()),
+                String.valueOf(ttl.toMillis()), maxSessions
+        ));
+    }
+
+    @Override
+    public RotationResult rotate(String email, String sessionId, String expectedTokenId, String newTokenId, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Long result = timed(rotateTimer, () -> redisTemplate.execute(
+                RefreshTokenScripts.ROTATE,
+                List.of(RefreshTokenScripts.key(email)),
+                sessionId, expectedTokenId, newTokenId,
+                String.valueOf(now), String.valueOf(now + ttl.toMillis()), String.valueOf(ttl.toMillis())
+        ));
+        return RefreshTokenScripts.rotationResult(result);
+    }
+
+    @Override
+    public List<RefreshSession> findSessions(String email) {
+        Map<Object, Object> entries = timed(findSessionsTimer,
+                () -> redisTemplate.opsForHash().entries(RefreshTokenScripts.key(email)));
+        return liveSessions(entries, System.currentTimeMillis());
+    }
+
+    @Override
+    public Map<String, List<RefreshSession>> findSessions(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> keys = new ArrayList<>(emails);
+        List<Object> results = timed(findAllTimer, () -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String email : keys) {
+                stringConnection.hGetAll(RefreshTokenScripts.key(email));
+            }
+            return null;
+        }));
+
+        long now = System.currentTimeMillis();
+        Map<String, List<RefreshSession>> sessions = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (results.get(i) instanceof Map<?, ?> entries && !entries.isEmpty()) {
+                List<RefreshSession> live = liveSessions(entries, now);
+                if (!live.isEmpty()) {
+                    sessions.put(keys.get(i), live);
+                }
+            }
+        }
+        return sessions;
+    }
+
+    private static List<RefreshSession> liveSessions(Map<?, ?> entries, long now) {
+        List<RefreshSession> sessions = new ArrayList<>(entries.size());
+        for (Map.Entry<?, ?> entry : entries.entrySet()) {
+            RefreshSession session = RefreshSession.decode((String) entry.getKey(), (String) entry.getValue());
+            // 만료 필드는 다음 로그인 시 CREATE 스크립트가 정리
+            if (session != null && !session.isExpired(now)) {
+                sessions.add(session);
+            }
+        }
+        sessions.sort(Comparator.comparingLong(RefreshSession::lastUsedAt).reversed());
+        return sessions;
+    }
+
+    @Override
+    public boolean revoke(String email, String sessionId) {
+        Long deleted = timed(revokeTimer,
+                () -> redisTemplate.opsForHash().delete(RefreshTokenScripts.key(email), sessionId));
+        return deleted != null && deleted > 0;
+    }
+
+    @Override
+    public void revokeAll(String email) {
+        timed(revokeTimer, () -> redisTemplate.delete(RefreshTokenScripts.key(email)));
+    }
+
+    @Override
+    public long revokeAll(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> results = timed(revokeAllTimer, () -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String email : emails) {
+                stringConnection.del(RefreshTokenScripts.key(email));
+            }
+            return null;
+        }));
+
+        long deleted = 0;
+        for (Object result : results) {
+            if (result instanceof Long count) {
+                deleted += count;
+            }
+        }
+        return deleted;
+    }
+
+    private static <T> T timed(Timer timer, Supplier<T> operation) {
+        return timer.record(operation);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("refresh.token.store")
+                .tag("operation", operation)
+                .description("Refresh Token 저장소 연산 지연 시간")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.spring_boot_jwt_boilerplate.repository.token;
+
+/**
+ * 기기(로그인) 단위 Refresh Token 세션 = 토큰 family
+ * 로그인 시 sessionId(family) 가 정해지고, 재발급마다 tokenId(jti) 만 바뀝니다.
+ * 저장 형식: tokenId|createdAt|lastUsedAt|expiresAt|device (시간은 epoch millis, Lua 스크립트도 같은 형식 사용)
+ */
+public record RefreshSession(String sessionId, String tokenId, long createdAt, long lastUsedAt, long expiresAt,
+                             String device) {
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+
+    public String encode() {
+        return tokenId + '|' + createdAt + '|' + lastUsedAt + '|' + expiresAt + '|' + (device != null ? device : "");
+    }
+
+    /**
+     * @return 형식이 깨진 값이면 null
+     */
+    static RefreshSession decode(String sessionId, String value) {
+        String[] parts = value.split("\\|", 5);
+        if (parts.length != 5) {
+            return null;
+        }
+        try {
+            return new RefreshSession(sessionId, parts[0],
+                    Long.parseLong(parts[1]), Long.parseLong(parts[2]), Long.parseLong(parts[3]),
+                    parts[4].isEmpty() ? null : parts[4]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.spring_boot_jwt_boilerplate.repository.token;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Refresh Token 세션 관련 Redis Lua 스크립트 (서블릿 / 리액티브 스택 공용)
+ * 사용자별 Hash (RTS:{email}) 하나에 기기별 세션을 저장하므로 KEYS / SCAN 없이 사용자 단위로만 접근
+ * 1. Hash 의 TTL 은 가장 늦게 만료되는 세션에 맞춤 -> 모든 세션이 만료되면 키 자체가 사라짐
+ * 2. 만료된 세션 필드는 같은 사용자의 새 로그인 시 정리 (최대 세션 수로 크기가 제한되므로 점진적 정리)
+ */
+public final class RefreshTokenScripts {
+
+    public static final String KEY_PREFIX = "RTS:";
+
+    /**
+     * KEYS[1] = RTS:{email}
+     * ARGV[1] = sessionId, ARGV[2] = 세션 값, ARGV[3] = 현재 시각(ms), ARGV[4] = TTL(ms), ARGV[5] = 최대 세션 수
+     * 만료 세션 정리 -> 최대 수 도달 시 가장 오래 사용되지 않은 세션 제거 -> 새 세션 저장
+     * @return 등록 전 유효 세션 수
+     */
+    public static final RedisScript<Long> CREATE = RedisScript.of("""
+            local now = tonumber(ARGV[3])
+            local entries = redis.call('HGETALL', KEYS[1])
+            local live = 0
+            local oldestSession = nil
+            local oldestUsed = nil
+            for i = 1, #entries, 2 do
+                local used, exp = string.match(entries[i + 1], '^[^|]*|%d+|(%d+)|(%d+)|')
+                if exp == nil or tonumber(exp) <= now then
+                    redis.call('HDEL', KEYS[1], entries[i])
+                else
+                    live = live + 1
+                    if oldestUsed == nil or tonumber(used) < oldestUsed then
+                        oldestSession = entries[i]
+                        oldestUsed = tonumber(used)
+                    end
+                end
+            end
+            if oldestSession ~= nil and live >= tonumber(ARGV[5]) then
+                redis.call('HDEL', KEYS[1], oldestSession)
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return live
+            """, Long.class);
+
+    /**
+     * KEYS[1] = RTS:{email}
+     * ARGV[1] = sessionId, ARGV[2] = 기존 jti, ARGV[3] = 새 jti, ARGV[4] = 현재 시각(ms), ARGV[5] = 새 만료시각(ms), ARGV[6] = TTL(ms)
+     * @return 1 = 교체, -1 = 재사용 감지(세션 삭제), 0 = 세션 없음 / 만료
+     */
+    public static final RedisScript<Long> ROTATE = RedisScript.of("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if not value then
+                return 0
+            end
+            local jti, created, used, exp, device = string.match(value, '^([^|]*)|(%d+)|(%d+)|(%d+)|(.*)$')
+            if jti == nil or tonumber(exp) <= tonumber(ARGV[4]) then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+                return 0
+            end
+            if jti ~= ARGV[2] then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+                return -1
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. '|' .. created .. '|' .. ARGV[4] .. '|' .. ARGV[5] .. '|' .. device)
+            if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[6]) then
+                redis.call('PEXPIRE', KEYS[1], ARGV[6])
+            end
+            return 1
+            """, Long.class);
+
+    private RefreshTokenScripts() {
+    }
+
+    public static String key(String email) {
+        return KEY_PREFIX + email;
+    }
+
+    public static RefreshTokenStore.RotationResult rotationResult(Long result) {
+        if (result == null || result == 0L) {
+            return RefreshTokenStore.RotationResult.NOT_FOUND;
+        }
+        return result == 1L ? RefreshTokenStore.RotationResult.ROTATED : RefreshTokenStore.RotationResult.REUSED;
+    }
+}
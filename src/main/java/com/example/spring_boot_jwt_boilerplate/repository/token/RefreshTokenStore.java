@@ -0,0 +1,59 @@
+package com.example.spring_boot_jwt_boilerplate.repository.token;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Refresh Token 세션 저장소 (사용자 1명 = 여러 기기 세션)
+ * Key: 사용자 이메일 / Field: sessionId(토큰 family) / Value: 현재 유효한 jti + 세션 정보
+ */
+public interface RefreshTokenStore {
+
+    enum RotationResult {
+        ROTATED,    // 정상 교체
+        REUSED,     // 이미 교체된 이전 토큰 재사용 -> family 전체 폐기됨
+        NOT_FOUND   // 세션 없음 (만료 / 로그아웃 / 폐기)
+    }
+
+    /**
+     * 새 세션(기기) 등록
+     * 같은 사용자의 만료된 세션을 함께 정리하고, 최대 세션 수를 넘으면 가장 오래 사용되지 않은 세션을 제거
+     */
+    void create(String email, RefreshSession session, Duration ttl);
+
+    /**
+     * 세션의 현재 jti 가 expectedTokenId 와 같을 때만 newTokenId 로 교체 (원자적, O(1))
+     * 다르면 탈취된 토큰의 재사용으로 보고 해당 세션(family)을 삭제
+     */
+    RotationResult rotate(String email, String sessionId, String expectedTokenId, String newTokenId, Duration ttl);
+
+    /**
+     * @return 만료되지 않은 세션 목록 (최근 사용 순)
+     */
+    List<RefreshSession> findSessions(String email);
+
+    /**
+     * 여러 사용자의 세션 일괄 조회
+     * @return 이메일 -> 만료되지 않은 세션 목록 (최근 사용 순), 세션이 없는 사용자는 제외
+     */
+    Map<String, List<RefreshSession>> findSessions(Collection<String> emails);
+
+    /**
+     * 세션 하나 폐기
+     * @return 삭제 여부
+     */
+    boolean revoke(String email, String sessionId);
+
+    /**
+     * 사용자의 모든 세션 폐기
+     */
+    void revokeAll(String email);
+
+    /**
+     * 여러 사용자의 모든 세션 일괄 폐기
+     * @return 실제로 삭제된 사용자 수
+     */
+    long revokeAll(Collection<String> emails);
+}
@@ -0,0 +1,83 @@
+package com.example.spring_boot_jwt_boilerplate.service;
+
+import com.example.spring_boot_jwt_boilerplate.config.datasource.RecentWriteTracker;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.SessionResponse;
+import com.example.spring_boot_jwt_boilerplate.exception.CustomException;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorCode;
+import com.example.spring_boot_jwt_boilerplate.repository.MemberRepository;
+import com.example.spring_boot_jwt_boilerplate.repository.token.RefreshTokenStore;
+import com.example.spring_boot_jwt_boilerplate.service.revocation.TokenRevocationService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 회원 조회만 짧은 읽기 전용 트랜잭션에서 실행하고 Redis 호출은 트랜잭션 밖에서 실행
+ * (Redis 왕복 동안 복제본 커넥션을 붙잡지 않도록)
+ */
+@Service
+public class AdminService {
+
+    private final MemberRepository memberRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationService tokenRevocationService;
+    private final RecentWriteTracker recentWriteTracker;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public AdminService(MemberRepository memberRepository,
+                        RefreshTokenStore refreshTokenStore,
+                        TokenRevocationService tokenRevocationService,
+                        RecentWriteTracker recentWriteTracker,
+                        PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.tokenRevocationService = tokenRevocationService;
+        this.recentWriteTracker = recentWriteTracker;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 관리자 권한은 SecurityConfig 에서 토큰의 role 클레임으로 이미 확인됨 (DB 조회 없음)
+     * 1. 대상 회원 존재 확인
+     * 2. 대상 회원의 기존 Access Token 전부 폐기 + 모든 기기 세션 삭제
+     */
+    public void revokeMemberTokens(String targetEmail) {
+        requireMember(targetEmail);
+
+        tokenRevocationService.revokeUser(targetEmail);
+        refreshTokenStore.revokeAll(targetEmail);
+    }
+
+    /**
+     * 대상 회원의 로그인 세션(기기) 목록
+     */
+    public List<SessionResponse> findMemberSessions(String targetEmail) {
+        requireMember(targetEmail);
+
+        return refreshTokenStore.findSessions(targetEmail).stream()
+                .map(session -> SessionResponse.of(session, null))
+                .toList();
+    }
+
+    /**
+     * 대상 회원의 세션 하나 강제 종료
+     */
+    public void revokeMemberSession(String targetEmail, String sessionId) {
+        requireMember(targetEmail);
+
+        if (!refreshTokenStore.revoke(targetEmail, sessionId)) {
+            throw new CustomException(ErrorCode.SESSION_NOT_FOUND);
+        }
+    }
+
+    private void requireMember(String email) {
+        Boolean exists = readOnlyTransaction.execute(status ->
+                recentWriteTracker.exists(email, () -> memberRepository.existsByEmail(email)));
+        if (!Boolean.TRUE.equals(exists)) {
+            throw new CustomException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+    }
+}
@@ -1,61 +1,130 @@
 package com.example.spring_boot_jwt_boilerplate.service;
 
+import com.example.spring_boot_jwt_boilerplate.config.AuthenticatedMember;
 import com.example.spring_boot_jwt_boilerplate.config.JwtTokenProvider;
+import com.example.spring_boot_jwt_boilerplate.config.TokenPair;
+import com.example.spring_boot_jwt_boilerplate.config.TokenVerification;
+import com.example.spring_boot_jwt_boilerplate.config.VerifiedToken;
+import com.example.spring_boot_jwt_boilerplate.config.datasource.RecentWriteTracker;
+import com.example.spring_boot_jwt_boilerplate.config.password.PasswordHashExecutor;
+import com.example.spring_boot_jwt_boilerplate.config.ratelimit.RateLimiter;
 import com.example.spring_boot_jwt_boilerplate.domain.member.Member;
 import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
 import com.example.spring_boot_jwt_boilerplate.dto.auth.LoginRequest;
 import com.example.spring_boot_jwt_boilerplate.dto.auth.LoginResponse;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.SessionResponse;
 import com.example.spring_boot_jwt_boilerplate.dto.auth.SignupRequest;
 import com.example.spring_boot_jwt_boilerplate.exception.CustomException;
 import com.example.spring_boot_jwt_boilerplate.exception.ErrorCode;
 import com.example.spring_boot_jwt_boilerplate.repository.MemberRepository;
+import com.example.spring_boot_jwt_boilerplate.repository.token.RefreshSession;
+import com.example.spring_boot_jwt_boilerplate.repository.token.RefreshTokenStore;
+import com.example.spring_boot_jwt_boilerplate.service.availability.MemberAvailabilityIndex;
+import com.example.spring_boot_jwt_boilerplate.service.availability.MemberAvailabilityService;
+import com.example.spring_boot_jwt_boilerplate.service.revocation.TokenRevocationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuthService {
 
+    private static final int MAX_DEVICE_LENGTH = 128;
+
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
+    private final MemberAvailabilityIndex memberAvailabilityIndex;
+    private final MemberAvailabilityService memberAvailabilityService;
+    private final TokenRevocationService tokenRevocationService;
+    private final RateLimiter rateLimiter;
+    private final RecentWriteTracker recentWriteTracker;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    private final OperationTimers loginTimers;
+    private final OperationTimers reissueTimers;
+    private final OperationTimers signupTimers;
+
+    public AuthService(MemberRepository memberRepository,
+                       PasswordEncoder passwordEncoder,
+                       PasswordHashExecutor passwordHashExecutor,
+                       JwtTokenProvider jwtTokenProvider,
+                       RefreshTokenStore refreshTokenStore,
+                       MemberAvailabilityIndex memberAvailabilityIndex,
+                       MemberAvailabilityService memberAvailabilityService,
+                       TokenRevocationService tokenRevocationService,
+                       RateLimiter rateLimiter,
+                       MeterRegistry meterRegistry,
+                       RecentWriteTracker recentWriteTracker,
+                       PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenStore = refreshTokenStore;
+        this.memberAvailabilityIndex = memberAvailabilityIndex;
+        this.memberAvailabilityService = memberAvailabilityService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.rateLimiter = rateLimiter;
+        this.recentWriteTracker = recentWriteTracker;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.loginTimers = new OperationTimers(meterRegistry, "login");
+        this.reissueTimers = new OperationTimers(meterRegistry, "reissue");
+        this.signupTimers = new OperationTimers(meterRegistry, "signup");
+    }
 
-    @Transactional
     /**
+     * 0. 회원 조회만 짧은 읽기 전용 트랜잭션 (replica, 가입 직후 회원은 primary), BCrypt / Redis 작업 중에는 커넥션을 잡지 않음
      * 1. 이메일 확인
-     * 2. 비밀번호 일치 확인
-     * 3. 토큰 발급
-     * 4. Redis에 Refresh Token 저장 (Key: 이메일, Value: 토큰, 만료시간: 1시간)
+     * 2. 비밀번호 일치 확인 (제한된 해시 전용 풀에서 실행)
+     * 2-1. 저장된 해시의 cost/알고리즘이 현재 설정과 다르면 재해시하여 갱신
+     * 3. 새 세션(기기) ID 로 토큰 발급 (다른 기기의 세션은 유지)
+     * 4. 사용자별 세션 저장소에 세션 등록 (Field: 세션 ID, Value: 현재 jti + 기기 정보)
      * 5. Refresh Token을 HttpOnly 쿠키에 담기
      */
-    public LoginResponse login(LoginRequest loginRequest, HttpServletResponse response) {
-        Member member = memberRepository.findByEmail(loginRequest.getEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+    public LoginResponse login(LoginRequest loginRequest, String device, HttpServletResponse response) {
+        return timed(loginTimers, () -> doLogin(loginRequest, device, response));
+    }
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), member.getPassword())) {
-            throw new CustomException(ErrorCode.LOGIN_FAILURE);
-        }
+    private LoginResponse doLogin(LoginRequest loginRequest, String device, HttpServletResponse response) {
+        Member member = authenticate(loginRequest);
+        AuthenticatedMember principal = principalOf(member);
 
-        String accessToken = jwtTokenProvider.createAccessToken(member.getEmail());
-        String refreshToken = jwtTokenProvider.createRefreshToken(member.getEmail());
+        String sessionId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        TokenPair tokens = jwtTokenProvider.createTokenPair(principal, sessionId, tokenId);
+        String accessToken = tokens.accessToken();
+        String refreshToken = tokens.refreshToken();
 
         long ttl = jwtTokenProvider.getRefreshTokenValidityInMilliseconds();
 
-        redisTemplate.opsForValue().set(
-                "RT:" + member.getEmail(),
-                refreshToken,
-                ttl,
-                TimeUnit.MILLISECONDS
-        );
+        refreshTokenStore.create(member.getEmail(), newSession(sessionId, tokenId, ttl, device), Duration.ofMillis(ttl));
 
         ResponseCookie cookie = ResponseCookie.from("refreshToken", refreshToken)
                 .httpOnly(true)
@@ -75,34 +144,98 @@ public class AuthService {
                 .build();
     }
 
-    @Transactional
     /**
+     * 로그인 1~2단계 (이메일 확인 + 비밀번호 검증 + 필요 시 재해시)
+     * 리액티브 스택(ReactiveAuthService)에서도 그대로 사용, 트랜잭션 밖에서 호출
+     * 0. 이메일 별 실패 한도 확인 (DB 조회 / BCrypt 전에 거절), 실패만 기록하고 성공하면 초기화
+     * 1. 조회만 짧은 읽기 전용 트랜잭션(replica) -> 커밋 후 BCrypt 비교 / 재해시는 트랜잭션 밖에서 실행
+     * 2. 재해시 저장은 조회 트랜잭션이 끝난 뒤 별도 쓰기 트랜잭션(primary) -> 요청당 커넥션은 한 번에 하나
+     */
+    public Member authenticate(LoginRequest loginRequest) {
+        String email = loginRequest.getEmail();
+        rateLimiter.checkFailures(RateLimiter.Scope.LOGIN_EMAIL, email);
+
+        Member member = findMember(email).orElse(null);
+        if (member == null) {
+            rateLimiter.recordFailure(RateLimiter.Scope.LOGIN_EMAIL, email);
+            throw new CustomException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+
+        if (!passwordHashExecutor.matches(loginRequest.getPassword(), member.getPassword())) {
+            rateLimiter.recordFailure(RateLimiter.Scope.LOGIN_EMAIL, email);
+            throw new CustomException(ErrorCode.LOGIN_FAILURE);
+        }
+        rateLimiter.resetFailures(RateLimiter.Scope.LOGIN_EMAIL, email);
+
+        if (passwordEncoder.upgradeEncoding(member.getPassword())) {
+            upgradePassword(email, passwordHashExecutor.encode(loginRequest.getPassword()));
+        }
+
+        return member;
+    }
+
+    // 조회 트랜잭션의 엔티티는 이미 분리되었으므로 쓰기 트랜잭션에서 다시 읽어 갱신
+    private void upgradePassword(String email, String encodedPassword) {
+        writeTransaction.executeWithoutResult(status -> memberRepository.findByEmail(email)
+                .ifPresent(member -> member.updatePassword(encodedPassword)));
+        recentWriteTracker.recordWrite(email);
+    }
+
+    // 회원 조회 하나만 감싸는 읽기 전용 트랜잭션 (반환 전에 커넥션 반납)
+    private Optional<Member> findMember(String email) {
+        return readOnlyTransaction.execute(status ->
+                recentWriteTracker.find(email, () -> memberRepository.findByEmail(email)));
+    }
+
+    /**
+     * 0. DB 조회가 필요한 이전 형식 토큰만 짧은 읽기 전용 트랜잭션으로 회원 조회 (Redis 교체 중에는 커넥션을 잡지 않음)
      * 1. Refresh Token 자체의 유효성(만료일자, 변조여부) 검사
-     * 2. Refresh Token에서 이메일 추출
-     * 3. Redis에 저장된 Refresh Token 꺼내기
-     * 4. Redis에 토큰이 없거나, 클라이언트가 보낸 토큰과 다르면 에러
-     * 5. 새로운 Access Token 및 Refresh Token 생성
-     * 6. Redis 업데이트 (기존 꺼 덮어쓰기)
-     * 7. 새로운 Refresh Token을 쿠키에 담기
+     * 2. Refresh Token 클레임에서 회원 정보(이메일, PK, 권한) + 세션 ID 추출
+     * 3. 같은 세션 ID, 새 jti 로 Access Token 및 Refresh Token 생성
+     * 4. 세션의 현재 jti 가 클라이언트가 보낸 토큰의 jti 와 같을 때만 교체 (원자적 CAS)
+     * 5. 세션이 없으면 에러, jti 가 다르면 재사용(탈취) 으로 보고 세션 삭제 + 그 세션의 AT 폐기
+     * 6. 새로운 Refresh Token을 쿠키에 담기
      */
     public LoginResponse reissue(String refreshToken, HttpServletResponse response) {
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new CustomException(ErrorCode.INVALID_TOKEN);
-        }
+        return timed(reissueTimers, () -> doReissue(refreshToken, response));
+    }
 
-        String email = jwtTokenProvider.getEmail(refreshToken);
+    private LoginResponse doReissue(String refreshToken, HttpServletResponse response) {
+        TokenVerification verification = jwtTokenProvider.verify(refreshToken);
 
-        String savedRefreshToken = redisTemplate.opsForValue().get("RT:" + email);
+        if (verification.getStatus() == TokenVerification.Status.EXPIRED) {
+            throw new CustomException(ErrorCode.EXPIRED_TOKEN);
+        }
+
+        if (!verification.isValid()) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
 
-        if (savedRefreshToken == null || !savedRefreshToken.equals(refreshToken)) {
+        VerifiedToken token = verification.getToken();
+        // 세션 ID 가 없는 이전 형식 Refresh Token 은 저장소에 없으므로 다시 로그인
+        if (token.getSessionId() == null || token.getTokenId() == null) {
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
 
-        String newAccessToken = jwtTokenProvider.createAccessToken(email);
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(email);
+        AuthenticatedMember principal = resolvePrincipal(token);
+        String email = principal.email();
+
+        String newTokenId = UUID.randomUUID().toString();
+        TokenPair tokens = jwtTokenProvider.createTokenPair(principal, token.getSessionId(), newTokenId);
+        String newAccessToken = tokens.accessToken();
+        String newRefreshToken = tokens.refreshToken();
 
         long ttl = jwtTokenProvider.getRefreshTokenValidityInMilliseconds();
-        redisTemplate.opsForValue().set("RT:" + email, newRefreshToken, ttl, TimeUnit.MILLISECONDS);
+
+        // 세션의 jti 와 같을 때만 교체 (비교 + 교체를 한 번의 왕복으로 원자적으로 처리)
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate(
+                email, token.getSessionId(), token.getTokenId(), newTokenId, Duration.ofMillis(ttl));
+        if (result == RefreshTokenStore.RotationResult.REUSED) {
+            onRefreshTokenReuse(token.getSessionId());
+        }
+        if (result != RefreshTokenStore.RotationResult.ROTATED) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
 
         ResponseCookie cookie = ResponseCookie.from("refreshToken", newRefreshToken)
                 .httpOnly(true)
@@ -118,45 +251,217 @@ public class AuthService {
                 .build();
     }
 
-    @Transactional
     /**
-     * 회원 가입 로직
+     * Refresh Token 클레임으로 principal 구성
+     * mid / role 클레임이 없는 이전 형식 토큰만 DB 에서 한 번 조회하고, 재발급된 토큰부터는 조회 없음
      */
-    public String signup(SignupRequest request) {
-        if (memberRepository.existsByEmail(request.getEmail())) {
-            throw new CustomException(ErrorCode.EMAIL_DUPLICATION);
+    public AuthenticatedMember resolvePrincipal(VerifiedToken refreshToken) {
+        if (refreshToken.hasMemberClaims()) {
+            return refreshToken.getPrincipal();
         }
 
-        if (memberRepository.existsByNickname(request.getNickname())) {
-             throw new CustomException(ErrorCode.NICKNAME_DUPLICATION);
+        return findMember(refreshToken.getSubject())
+                .map(AuthService::principalOf)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_TOKEN));
+    }
+
+    public static AuthenticatedMember principalOf(Member member) {
+        return new AuthenticatedMember(member.getId(), member.getEmail(), member.getRole());
+    }
+
+    /**
+     * 이미 교체된 Refresh Token 이 다시 사용됨 (탈취 의심)
+     * 세션(family) 은 저장소에서 이미 삭제됨 -> 공격자가 받아 간 Access Token 도 쓸 수 없도록 같은 sid 의 AT 폐기
+     * (다른 기기의 세션 / Access Token 은 그대로 유지)
+     */
+    public void onRefreshTokenReuse(String sessionId) {
+        log.warn("Refresh token reuse detected, session revoked: sessionId={}", sessionId);
+        tokenRevocationService.revokeSession(sessionId);
+    }
+
+    /**
+     * 로그인 시 저장할 세션 정보
+     */
+    public RefreshSession newSession(String sessionId, String tokenId, long ttl, String device) {
+        long now = System.currentTimeMillis();
+        String label = device == null || device.length() <= MAX_DEVICE_LENGTH ? device : device.substring(0, MAX_DEVICE_LENGTH);
+        return new RefreshSession(sessionId, tokenId, now, now, now + ttl, label);
+    }
+
+    /**
+     * 1. 현재 Access Token(jti) 을 만료시각까지 폐기 목록에 등록
+     * 2. 현재 기기의 세션만 삭제 (sid 가 없는 이전 형식 토큰이면 모든 세션 삭제)
+     * 3. Refresh Token 쿠키 만료
+     */
+    public void logout(VerifiedToken accessToken, HttpServletResponse response) {
+        tokenRevocationService.revokeToken(accessToken.getTokenId(), accessToken.getExpiration());
+        if (accessToken.getSessionId() != null) {
+            refreshTokenStore.revoke(accessToken.getSubject(), accessToken.getSessionId());
+        } else {
+            refreshTokenStore.revokeAll(accessToken.getSubject());
         }
 
+        ResponseCookie cookie = ResponseCookie.from("refreshToken", "")
+                .httpOnly(true)
+                .secure(true)
+                .path("/")
+                .maxAge(0)
+                .sameSite("Strict")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    /**
+     * 내 로그인 세션(기기) 목록
+     */
+    public List<SessionResponse> findSessions(VerifiedToken accessToken) {
+        return refreshTokenStore.findSessions(accessToken.getSubject()).stream()
+                .map(session -> SessionResponse.of(session, accessToken.getSessionId()))
+                .toList();
+    }
+
+    /**
+     * 내 세션 하나 종료 (다른 기기 로그아웃)
+     * 해당 기기의 Refresh Token 은 즉시 무효, 이미 발급된 Access Token 은 만료시각까지 유효
+     */
+    public void revokeSession(VerifiedToken accessToken, String sessionId) {
+        if (!refreshTokenStore.revoke(accessToken.getSubject(), sessionId)) {
+            throw new CustomException(ErrorCode.SESSION_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 회원 가입 로직
+     * 1. 비밀번호 해시는 트랜잭션 / 커넥션 없이 먼저 실행 (PasswordHashExecutor, password.hash{operation=encode} 로 따로 집계)
+     * 2. 중복 확인 조회 없이 INSERT 1회 (저장소의 짧은 트랜잭션에서 즉시 실행)
+     * 3. 이메일 / 닉네임 중복은 유니크 인덱스 위반으로 판정하여 EMAIL_DUPLICATION / NICKNAME_DUPLICATION 으로 변환
+     *    (조회 후 INSERT 하던 방식과 달리 동시 가입에도 중복이 생기지 않음)
+     */
+    public String signup(SignupRequest request) {
+        return timed(signupTimers, () -> doSignup(request));
+    }
+
+    private String doSignup(SignupRequest request) {
         Member member = Member.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashExecutor.encode(request.getPassword()))
                 .nickname(request.getNickname())
                 .role(Role.USER)
                 .build();
 
-        memberRepository.save(member);
+        // INSERT 전에 먼저 인덱스에 추가 + 다른 인스턴스로 전파 (실패해도 오탐만 늘어날 뿐 누락은 없음)
+        memberAvailabilityService.record(member.getEmail(), member.getNickname());
+        try {
+            memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(duplicationOf(e, member));
+        }
+        // 복제 전에 이어지는 로그인 / 중복 확인은 primary 에서 읽도록
+        recentWriteTracker.recordWrite(member.getEmail());
+        recentWriteTracker.recordWrite(RecentWriteTracker.nicknameKey(member.getNickname()));
         return "회원가입 성공!!";
     }
 
     /**
-     * 회원 가입 시 중복 확인 함수
+     * 위반된 유니크 인덱스 이름으로 중복 필드 판정
+     * 이름으로 판정할 수 없으면(이전 스키마의 자동 생성 인덱스 등) 실패 경로에서만 조회로 확인
+     * 그래도 중복이 아니면 다른 무결성 위반이므로 그대로 전파
+     */
+    private ErrorCode duplicationOf(DataIntegrityViolationException e, Member member) {
+        String violated = e.getCause() instanceof ConstraintViolationException cause && cause.getConstraintName() != null
+                ? cause.getConstraintName()
+                : String.valueOf(e.getMostSpecificCause().getMessage());
+        violated = violated.toLowerCase(Locale.ROOT);
+
+        if (violated.contains(Member.NICKNAME_UNIQUE)) {
+            return ErrorCode.NICKNAME_DUPLICATION;
+        }
+        if (violated.contains(Member.EMAIL_UNIQUE) || memberRepository.existsByEmail(member.getEmail())) {
+            return ErrorCode.EMAIL_DUPLICATION;
+        }
+        if (memberRepository.existsByNickname(member.getNickname())) {
+            return ErrorCode.NICKNAME_DUPLICATION;
+        }
+        throw e;
+    }
+
+    /**
+     * auth.service{operation, outcome} 처리 시간 기록
+     * outcome: success / 실패한 ErrorCode 이름(소문자) / error
+     */
+    private static <T> T timed(OperationTimers timers, Supplier<T> action) {
+        long startedAt = System.nanoTime();
+        Timer timer = timers.error;
+        try {
+            T result = action.get();
+            timer = timers.success;
+            return result;
+        } catch (CustomException e) {
+            timer = timers.failure(e.getErrorCode());
+            throw e;
+        } finally {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 연산 하나의 auth.service 타이머 (요청마다 Timer.builder / register 하지 않도록 필드에 보관)
+     * 1. success / error 는 생성 시 등록
+     * 2. 실패 ErrorCode 별 타이머는 처음 발생할 때 한 번만 등록 (발생하지 않는 코드의 히스토그램은 만들지 않음)
+     */
+    private static final class OperationTimers {
+
+        private final MeterRegistry meterRegistry;
+        private final String operation;
+        private final Timer success;
+        private final Timer error;
+        private final Map<ErrorCode, Timer> failures = new ConcurrentHashMap<>();
+
+        OperationTimers(MeterRegistry meterRegistry, String operation) {
+            this.meterRegistry = meterRegistry;
+            this.operation = operation;
+            this.success = register("success");
+            this.error = register("error");
+        }
+
+        Timer failure(ErrorCode errorCode) {
+            return failures.computeIfAbsent(errorCode, code -> register(code.name().toLowerCase(Locale.ROOT)));
+        }
+
+        private Timer register(String outcome) {
+            return Timer.builder("auth.service")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .description("인증 서비스 처리 시간")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    /**
+     * 회원 가입 시 중복 확인 함수 (읽기 전용 트랜잭션이므로 replica 에서 조회)
      * @param email 이메일 중복확인
      * @return 확인 결과
      */
     public boolean isEmailDuplicate(String email) {
-        return memberRepository.existsByEmail(email);
+        // Bloom filter 가 "확실히 없음"이면 DB 조회 생략
+        if (!memberAvailabilityIndex.mightContainEmail(email)) {
+            return false;
+        }
+        return recentWriteTracker.exists(email, () -> memberRepository.existsByEmail(email));
     }
 
+    @Transactional(readOnly = true)
     /**
-     * 회원 가입 시 닉네임 중복 확인 함수
+     * 회원 가입 시 닉네임 중복 확인 함수 (읽기 전용 트랜잭션이므로 replica 에서 조회)
      * @param nickname 닉네임 중복확인
      * @return 확인 결과
      */
     public boolean isNicknameDuplicate(String nickname) {
-        return memberRepository.existsByNickname(nickname);
+        if (!memberAvailabilityIndex.mightContainNickname(nickname)) {
+            return false;
+        }
+        return recentWriteTracker.exists(RecentWriteTracker.nicknameKey(nickname),
+                () -> memberRepository.existsByNickname(nickname));
     }
 }
\ No newline at end of file
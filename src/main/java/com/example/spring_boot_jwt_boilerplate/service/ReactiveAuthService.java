@@ -0,0 +1,201 @@
+package com.example.spring_boot_jwt_boilerplate.service;
+
+import com.example.spring_boot_jwt_boilerplate.config.AuthenticatedMember;
+import com.example.spring_boot_jwt_boilerplate.config.JwtTokenProvider;
+import com.example.spring_boot_jwt_boilerplate.config.TokenPair;
+import com.example.spring_boot_jwt_boilerplate.config.TokenVerification;
+import com.example.spring_boot_jwt_boilerplate.config.VerifiedToken;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.LoginRequest;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.LoginResponse;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.SignupRequest;
+import com.example.spring_boot_jwt_boilerplate.exception.CustomException;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorCode;
+import com.example.spring_boot_jwt_boilerplate.repository.token.RefreshSession;
+import com.example.spring_boot_jwt_boilerplate.repository.token.RefreshTokenScripts;
+import com.example.spring_boot_jwt_boilerplate.repository.token.RefreshTokenStore;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * AuthService 의 리액티브 버전
+ * 1. Refresh Token 세션(RTS:) 등록/교체는 논블로킹 ReactiveStringRedisTemplate + 서블릿 스택과 같은 Lua 스크립트 사용
+ * 2. BCrypt / JPA 같은 블로킹 작업은 제한된 전용 Scheduler 로 격리
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAuthService {
+
+    private final AuthService authService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final Scheduler blockingScheduler;
+    private final String maxSessions;
+
+    public ReactiveAuthService(AuthService authService,
+                               JwtTokenProvider jwtTokenProvider,
+                               ReactiveStringRedisTemplate reactiveRedisTemplate,
+                               @Value("${reactive.blocking.thread-cap:32}") int threadCap,
+                               @Value("${reactive.blocking.queued-task-cap:1000}") int queuedTaskCap,
+                               @Value("${refresh-token.max-sessions-per-user:10}") int maxSessions) {
+        this.authService = authService;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.maxSessions = String.valueOf(Math.max(1, maxSessions));
+        this.blockingScheduler = Schedulers.newBoundedElastic(threadCap, queuedTaskCap, "auth-blocking");
+    }
+
+    /**
+     * 1. 이메일 확인 + 비밀번호 검증 (blockingScheduler)
+     * 2. 새 세션(기기) ID 로 토큰 발급
+     * 3. Redis 세션 등록 (논블로킹)
+     * 4. Refresh Token을 HttpOnly 쿠키에 담기
+     */
+    public Mono<LoginResponse> login(LoginRequest loginRequest, String device, ServerHttpResponse response) {
+        return Mono.fromCallable(() -> authService.authenticate(loginRequest))
+                .subscribeOn(blockingScheduler)
+                .flatMap(member -> {
+                    AuthenticatedMember principal = AuthService.principalOf(member);
+                    String sessionId = UUID.randomUUID().toString();
+                    String tokenId = UUID.randomUUID().toString();
+                    TokenPair tokens = jwtTokenProvider.createTokenPair(principal, sessionId, tokenId);
+                    String accessToken = tokens.accessToken();
+                    String refreshToken = tokens.refreshToken();
+                    long ttl = jwtTokenProvider.getRefreshTokenValidityInMilliseconds();
+                    RefreshSession session = authService.newSession(sessionId, tokenId, ttl, device);
+
+                    return createSession(member.getEmail(), session, refreshToken, ttl, response)
+                            .thenReturn(LoginResponse.builder()
+                                    .accessToken(accessToken)
+                                    .nickname(member.getNickname())
+                                    .role(member.getRole())
+                                    .build());
+                });
+    }
+
+    /**
+     * 1. Refresh Token 자체의 유효성(만료일자, 변조여부) 검사
+     * 2. 같은 세션 ID, 새 jti 로 Access Token 및 Refresh Token 생성
+     * 3. 세션의 jti 가 같을 때만 교체 (Lua CAS, 논블로킹) 후 쿠키 갱신
+     * 4. 재사용(탈취) 감지 시 세션 삭제 + 그 세션의 AT 폐기 (blockingScheduler)
+     */
+    public Mono<LoginResponse> reissue(String refreshToken, ServerHttpResponse response) {
+        TokenVerification verification = jwtTokenProvider.verify(refreshToken);
+
+        if (verification.getStatus() == TokenVerification.Status.EXPIRED) {
+            return Mono.error(new CustomException(ErrorCode.EXPIRED_TOKEN));
+        }
+
+        if (!verification.isValid()) {
+            return Mono.error(new CustomException(ErrorCode.INVALID_TOKEN));
+        }
+
+        VerifiedToken token = verification.getToken();
+        if (token.getSessionId() == null || token.getTokenId() == null) {
+            return Mono.error(new CustomException(ErrorCode.INVALID_TOKEN));
+        }
+
+        // 클레임이 온전하면 DB 조회 없이 바로, 이전 형식 토큰만 blockingScheduler 에서 조회
+        Mono<AuthenticatedMember> principal = token.hasMemberClaims()
+                ? Mono.just(token.getPrincipal())
+                : Mono.fromCallable(() -> authService.resolvePrincipal(token)).subscribeOn(blockingScheduler);
+
+        return principal.flatMap(member -> rotate(member, token, response));
+    }
+
+    private Mono<LoginResponse> rotate(AuthenticatedMember member, VerifiedToken token, ServerHttpResponse response) {
+        String sessionId = token.getSessionId();
+        String newTokenId = UUID.randomUUID().toString();
+        TokenPair tokens = jwtTokenProvider.createTokenPair(member, sessionId, newTokenId);
+        String newAccessToken = tokens.accessToken();
+        String newRefreshToken = tokens.refreshToken();
+        long ttl = jwtTokenProvider.getRefreshTokenValidityInMilliseconds();
+        long now = System.currentTimeMillis();
+
+        // 서블릿 스택과 같은 Lua CAS 스크립트로 원자적 교체
+        return reactiveRedisTemplate.execute(
+                        RefreshTokenScripts.ROTATE,
+                        List.of(RefreshTokenScripts.key(member.email())),
+                        List.of(sessionId, token.getTokenId(), newTokenId,
+                                String.valueOf(now), String.valueOf(now + ttl), String.valueOf(ttl)))
+                .next()
+                .map(RefreshTokenScripts::rotationResult)
+                .defaultIfEmpty(RefreshTokenStore.RotationResult.NOT_FOUND)
+                .flatMap(result -> requireRotated(result, sessionId))
+                .map(rotated -> {
+                    response.addCookie(refreshTokenCookie(newRefreshToken, ttl));
+                    return LoginResponse.builder()
+                            .accessToken(newAccessToken)
+                            .build();
+                });
+    }
+
+    private Mono<RefreshTokenStore.RotationResult> requireRotated(RefreshTokenStore.RotationResult result,
+                                                                 String sessionId) {
+        if (result == RefreshTokenStore.RotationResult.ROTATED) {
+            return Mono.just(result);
+        }
+
+        Mono<RefreshTokenStore.RotationResult> invalid = Mono.error(new CustomException(ErrorCode.INVALID_TOKEN));
+        if (result == RefreshTokenStore.RotationResult.REUSED) {
+            return Mono.fromRunnable(() -> authService.onRefreshTokenReuse(sessionId))
+                    .subscribeOn(blockingScheduler)
+                    .then(invalid);
+        }
+        return invalid;
+    }
+
+    /**
+     * 회원 가입 (blockingScheduler)
+     */
+    public Mono<String> signup(SignupRequest request) {
+        return Mono.fromCallable(() -> authService.signup(request))
+                .subscribeOn(blockingScheduler);
+    }
+
+    public Mono<Boolean> isEmailDuplicate(String email) {
+        return Mono.fromCallable(() -> authService.isEmailDuplicate(email))
+                .subscribeOn(blockingScheduler);
+    }
+
+    public Mono<Boolean> isNicknameDuplicate(String nickname) {
+        return Mono.fromCallable(() -> authService.isNicknameDuplicate(nickname))
+                .subscribeOn(blockingScheduler);
+    }
+
+    private Mono<Long> createSession(String email, RefreshSession session, String refreshToken, long ttl,
+                                     ServerHttpResponse response) {
+        return reactiveRedisTemplate.execute(
+                        RefreshTokenScripts.CREATE,
+                        List.of(RefreshTokenScripts.key(email)),
+                        List.of(session.sessionId(), session.encode(), String.valueOf(System.currentTimeMillis()),
+                                String.valueOf(ttl), maxSessions))
+                .next()
+                .doOnSuccess(live -> response.addCookie(refreshTokenCookie(refreshToken, ttl)));
+    }
+
+    private ResponseCookie refreshTokenCookie(String refreshToken, long ttl) {
+        return ResponseCookie.from("refreshToken", refreshToken)
+                .httpOnly(true)
+                .secure(true)
+                .path("/")
+                .maxAge(ttl / 1000)
+                .sameSite("Strict") // CSRF 공격 방지
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        blockingScheduler.dispose();
+    }
+}
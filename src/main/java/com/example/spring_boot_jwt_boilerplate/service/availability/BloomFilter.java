@@ -0,0 +1,110 @@
+package com.example.spring_boot_jwt_boilerplate.service.availability;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문자열 전용 thread-safe Bloom filter (추가만 가능, 삭제 불가)
+ * 1. mightContain() == false 이면 "확실히 없음"
+ * 2. true 이면 "있을 수도 있음" (오탐 확률 = falsePositiveRate)
+ */
+final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final LongAdder insertions = new LongAdder();
+
+    private BloomFilter(long bitSize, int hashFunctions) {
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + 63) / 64));
+    }
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate 목표 오탐 확률 (0 ~ 1)
+     */
+    static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions > 0, 0 < falsePositiveRate < 1 이어야 합니다.");
+        }
+
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * LN2));
+        return new BloomFilter(Math.max(64, bits), hashes);
+    }
+
+    void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            int wordIndex = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+            if ((words.get(wordIndex) & mask) == 0) {
+                words.getAndAccumulate(wordIndex, mask, (current, bit) -> current | bit);
+            }
+        }
+        insertions.increment();
+    }
+
+    boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((words.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    long sizeInBytes() {
+        return words.length() * 8L;
+    }
+
+    int hashFunctions() {
+        return hashFunctions;
+    }
+
+    long insertions() {
+        return insertions.sum();
+    }
+
+    /**
+     * 현재 채워진 비트 비율로 추정한 오탐 확률
+     */
+    double expectedFalsePositiveRate() {
+        long setBits = 0;
+        for (int i = 0; i < words.length(); i++) {
+            setBits += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) setBits / bitSize, hashFunctions);
+    }
+
+    // FNV-1a 64bit + splitmix64 finalizer
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.spring_boot_jwt_boilerplate.service.availability;
+
+import com.example.spring_boot_jwt_boilerplate.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 이메일 / 닉네임 사용 가능 여부 인덱스 (필드별 Bloom filter)
+ * 1. 기동 완료 후 가상 스레드에서 members 테이블을 스트리밍하여 채움 (readiness 를 늦추지 않음)
+ * 2. 회원가입 시 INSERT 전에 먼저 추가 (커밋된 회원이 "없음"으로 보이는 순간이 없도록)
+ *    다른 인스턴스의 가입은 MemberAvailabilityService 가 Pub/Sub 으로 받아 추가
+ * 3. "확실히 없음"이면 DB 조회 없이 응답, "있을 수도 있음"이면 Repository 로 확인
+ * 4. 재구성이 끝나기 전(ready=false)에는 항상 "있을 수도 있음"을 반환
+ */
+@Slf4j
+@Component
+public class MemberAvailabilityIndex {
+
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final BloomFilter emails;
+    private final BloomFilter nicknames;
+
+    private final Counter emailAbsent;
+    private final Counter emailPossible;
+    private final Counter nicknameAbsent;
+    private final Counter nicknamePossible;
+
+    private volatile boolean ready;
+
+    public MemberAvailabilityIndex(MemberRepository memberRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${member.availability.enabled:true}") boolean enabled,
+                                   @Value("${member.availability.expected-insertions:1000000}") long expectedInsertions,
+                                   @Value("${member.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.memberRepository = memberRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.emails = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        this.nicknames = BloomFilter.create(expectedInsertions, falsePositiveRate);
+
+        this.emailAbsent = lookupCounter(meterRegistry, "email", "absent");
+        this.emailPossible = lookupCounter(meterRegistry, "email", "possible");
+        this.nicknameAbsent = lookupCounter(meterRegistry, "nickname", "absent");
+        this.nicknamePossible = lookupCounter(meterRegistry, "nickname", "possible");
+        registerSizeGauges(meterRegistry, "email", emails);
+        registerSizeGauges(meterRegistry, "nickname", nicknames);
+    }
+
+    /**
+     * 기동 스레드에서 테이블 전체를 읽으면 readiness 가 그만큼 늦어지므로 별도 가상 스레드에서 실행
+     * 끝나기 전(ready=false)에는 모든 조회가 DB 로 위임됨
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        if (!enabled) {
+            return;
+        }
+        Thread.ofVirtual().name("availability-rebuild").start(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("[MemberAvailabilityIndex] 재구성 실패 (DB 조회로 계속 동작)", e);
+            }
+        });
+    }
+
+    /**
+     * members 테이블 전체를 스트리밍하여 필터를 채움
+     * 재구성 중 들어온 회원가입도 같은 필터에 추가되므로 누락되지 않음
+     */
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        Long count = readOnlyTransaction.execute(status -> {
+            long loaded = 0;
+            try (Stream<MemberRepository.MemberIdentifiers> stream = memberRepository.streamAllIdentifiers()) {
+                for (MemberRepository.MemberIdentifiers identifiers : (Iterable<MemberRepository.MemberIdentifiers>) stream::iterator) {
+                    emails.put(normalize(identifiers.getEmail()));
+                    nicknames.put(normalize(identifiers.getNickname()));
+                    loaded++;
+                }
+            }
+            return loaded;
+        });
+        ready = true;
+
+        log.info("[MemberAvailabilityIndex] {}명 로드 완료 ({}ms, 필터 크기 {}KB x 2)",
+                count, System.currentTimeMillis() - start, emails.sizeInBytes() / 1024);
+    }
+
+    /**
+     * @return false 면 확실히 없는 이메일 (DB 조회 불필요)
+     */
+    public boolean mightContainEmail(String email) {
+        return lookup(emails, email, emailAbsent, emailPossible);
+    }
+
+    /**
+     * @return false 면 확실히 없는 닉네임 (DB 조회 불필요)
+     */
+    public boolean mightContainNickname(String nickname) {
+        return lookup(nicknames, nickname, nicknameAbsent, nicknamePossible);
+    }
+
+    /**
+     * 회원가입 / 닉네임 변경 시 INSERT(UPDATE) 전에 호출
+     */
+    public void record(String email, String nickname) {
+        if (email != null) {
+            emails.put(normalize(email));
+        }
+        if (nickname != null) {
+            nicknames.put(normalize(nickname));
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private boolean lookup(BloomFilter filter, String value, Counter absent, Counter possible) {
+        if (!enabled || !ready || value == null) {
+            return true;
+        }
+
+        if (filter.mightContain(normalize(value))) {
+            possible.increment();
+            return true;
+        }
+        absent.increment();
+        return false;
+    }
+
+    // MySQL 기본 collation(대소문자 무시, 뒤 공백 무시)과 맞추기 위한 정규화
+    private static String normalize(String value) {
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String field, String result) {
+        return Counter.builder("member.availability.lookups")
+                .tag("field", field)
+                .tag("result", result)
+                .description("Bloom filter 조회 결과 (absent 는 DB 조회 생략)")
+                .register(meterRegistry);
+    }
+
+    private static void registerSizeGauges(MeterRegistry meterRegistry, String field, BloomFilter filter) {
+        Gauge.builder("member.availability.bloom.bytes", filter, BloomFilter::sizeInBytes)
+                .tag("field", field)
+                .description("Bloom filter 메모리 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("member.availability.bloom.insertions", filter, BloomFilter::insertions)
+                .tag("field", field)
+                .register(meterRegistry);
+        Gauge.builder("member.availability.bloom.expected.fpp", filter, BloomFilter::expectedFalsePositiveRate)
+                .tag("field", field)
+                .description("현재 채워진 비트 기준 추정 오탐 확률")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.spring_boot_jwt_boilerplate.service.availability;
+
+import com.example.spring_boot_jwt_boilerplate.dto.auth.SignupRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * 회원가입 / 대량 가져오기로 추가된 이메일 · 닉네임을 모든 인스턴스의 MemberAvailabilityIndex 에 반영
+ * 1. 로컬 인덱스에 먼저 추가한 뒤 Pub/Sub 채널로 전파 (TokenRevocationService 와 같은 방식)
+ * 2. 구독은 컨텍스트 갱신 시 시작되고 인덱스 재구성은 기동 완료 후 시작되므로,
+ *    재구성 스트림 이후의 가입은 메시지로 받음 (재구성 중 받은 메시지도 같은 필터에 추가)
+ * 3. 전파 실패는 가입을 막지 않음 (다른 인스턴스에서 "사용 가능"으로 보여도 가입 시 유니크 인덱스가 거절)
+ */
+@Slf4j
+@Service
+public class MemberAvailabilityService implements MessageListener {
+
+    public static final String CHANNEL = "member-availability";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MemberAvailabilityIndex index;
+
+    public MemberAvailabilityService(StringRedisTemplate redisTemplate, MemberAvailabilityIndex index) {
+        this.redisTemplate = redisTemplate;
+        this.index = index;
+    }
+
+    /**
+     * 회원가입 시 INSERT 전에 호출
+     */
+    public void record(String email, String nickname) {
+        index.record(email, nickname);
+        publish(line(new StringBuilder(), email, nickname));
+    }
+
+    /**
+     * 대량 가져오기 배치를 메시지 하나로 전파
+     */
+    public void recordAll(Collection<SignupRequest> rows) {
+        StringBuilder message = new StringBuilder();
+        for (SignupRequest row : rows) {
+            index.record(row.getEmail(), row.getNickname());
+            line(message, row.getEmail(), row.getNickname());
+        }
+        publish(message);
+    }
+
+    /**
+     * 다른 인스턴스(자기 자신 포함)의 가입 수신
+     * 형식: 한 줄에 "{email}\t{nickname}"
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        for (String line : new String(message.getBody(), StandardCharsets.UTF_8).split("\n")) {
+            String[] parts = line.split("\t", 2);
+            if (parts.length != 2) {
+                log.warn("[MemberAvailabilityService] 알 수 없는 메시지 형식: {}", line);
+                continue;
+            }
+            index.record(parts[0].isEmpty() ? null : parts[0], parts[1].isEmpty() ? null : parts[1]);
+        }
+    }
+
+    private void publish(StringBuilder message) {
+        if (!index.isEnabled() || message.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message.toString());
+        } catch (RuntimeException e) {
+            log.warn("[MemberAvailabilityService] 가입 전파 실패, 다른 인스턴스는 재기동 시 반영합니다.", e);
+        }
+    }
+
+    private static StringBuilder line(StringBuilder message, String email, String nickname) {
+        if (!message.isEmpty()) {
+            message.append('\n');
+        }
+        return message.append(email != null ? email : "").append('\t').append(nickname != null ? nickname : "");
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.spring_boot_jwt_boilerplate.service.bulk;
+
+import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
+import com.example.spring_boot_jwt_boilerplate.dto.admin.MemberImportResponse;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.SignupRequest;
+import com.example.spring_boot_jwt_boilerplate.exception.CustomException;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorCode;
+import com.example.spring_boot_jwt_boilerplate.service.availability.MemberAvailabilityService;
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 대량 회원 가입 (테넌트 온보딩용)
+ * 1. 입력(CSV / JSON)을 스트리밍으로 읽어 batch-size 단위로 처리 -> 메모리 사용량은 배치 크기에 비례
+ * 2. 비밀번호 해시는 로그인용 PasswordHashExecutor 와 분리된 전용 풀에서 병렬 처리
+ * 3. 저장은 JPA 대신 JdbcTemplate batchUpdate (IDENTITY 키라도 드라이버가 다중 VALUES INSERT 로 재작성)
+ * 4. 배치마다 별도 트랜잭션 -> 중간 실패 시 이전 배치는 이미 커밋되어 있음
+ * 5. 동시에 하나의 가져오기만 실행 (해시 풀이 로그인 CPU 를 잠식하지 않도록)
+ */
+@Slf4j
+@Service
+public class MemberImportService {
+
+    // 경쟁 상황(동시 가입)으로 사전 중복 확인을 통과한 행은 UNIQUE 제약에 걸려 아무것도 바꾸지 않음
+    // (INSERT IGNORE 는 길이 초과 등 데이터 오류까지 경고로 바꿔 잘린 값을 저장하므로 사용하지 않음)
+    private static final String INSERT_SQL =
+            "INSERT INTO members (email, password, nickname, role) VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE id = id";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberAvailabilityService memberAvailabilityService;
+    private final int batchSize;
+    private final ThreadPoolExecutor hashExecutor;
+    private final Semaphore running = new Semaphore(1);
+
+    private final Counter importedCounter;
+    private final Counter duplicateCounter;
+    private final Counter invalidCounter;
+    private final Timer batchTimer;
+
+    public MemberImportService(ObjectMapper objectMapper,
+                               Validator validator,
+                               PasswordEncoder passwordEncoder,
+                               JdbcTemplate jdbcTemplate,
+                               NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               MemberAvailabilityService memberAvailabilityService,
+                               MeterRegistry meterRegistry,
+                               @Value("${member.import.batch-size:1000}") int batchSize,
+                               @Value("${member.import.hash-threads:0}") int hashThreads) {
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.memberAvailabilityService = memberAvailabilityService;
+        this.batchSize = batchSize;
+        // 큐는 한 배치 크기로 제한, 넘치면 호출 스레드가 직접 해시 (자연스러운 배압)
+        this.hashExecutor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize),
+                Thread.ofPlatform().name("member-import-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+
+        this.importedCounter = rowCounter(meterRegistry, "imported");
+        this.duplicateCounter = rowCounter(meterRegistry, "duplicate");
+        this.invalidCounter = rowCounter(meterRegistry, "invalid");
+        this.batchTimer = Timer.builder("member.import.batch")
+                .description("가져오기 배치 1회 처리 시간 (해시 + INSERT)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param body        요청 본문 (스트림)
+     * @param contentType text/csv, application/json, application/x-ndjson
+     * @return 처리 결과 집계
+     */
+    public MemberImportResponse importMembers(InputStream body, MediaType contentType) {
+        if (!running.tryAcquire()) {
+            throw new CustomException(ErrorCode.SERVER_BUSY);
+        }
+
+        long startedAt = System.nanoTime();
+        Tally tally = new Tally();
+
+        try (MemberRowReader rows = MemberRowReader.open(body, contentType, objectMapper)) {
+            List<SignupRequest> batch = new ArrayList<>(batchSize);
+            while (rows.hasNext()) {
+                batch.add(rows.next());
+                if (batch.size() == batchSize) {
+                    importBatch(batch, tally);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                importBatch(batch, tally);
+            }
+        } catch (JacksonException e) {
+            log.warn("[MemberImport] JSON 형식 오류로 중단 (이전 배치는 저장됨): {}", e.getOriginalMessage());
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        } catch (IOException e) {
+            throw new IllegalStateException("가져오기 입력을 읽지 못했습니다.", e);
+        } finally {
+            running.release();
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("[MemberImport] requested={}, imported={}, duplicates={}, invalid={}, {}ms",
+                tally.requested, tally.imported, tally.duplicates, tally.invalid, elapsedMillis);
+
+        return MemberImportResponse.builder()
+                .requested(tally.requested)
+                .imported(tally.imported)
+                .duplicates(tally.duplicates)
+                .invalid(tally.invalid)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * 1. 검증 실패 / 입력 내 중복 제거
+     * 2. 이미 가입된 이메일 / 닉네임을 IN 쿼리 2회로 제외
+     * 3. 남은 행의 비밀번호를 병렬 해시
+     * 4. 한 트랜잭션에서 batchUpdate 후 실제로 저장된 행 수를 다시 조회
+     */
+    private void importBatch(List<SignupRequest> batch, Tally tally) {
+        long startedAt = System.nanoTime();
+        tally.requested += batch.size();
+
+        Map<String, SignupRequest> byEmail = new LinkedHashMap<>();
+        Set<String> nicknames = new HashSet<>();
+        for (SignupRequest row : batch) {
+            if (row == null || !validator.validate(row).isEmpty()) {
+                tally.invalid++;
+                invalidCounter.increment();
+                continue;
+            }
+            if (byEmail.putIfAbsent(normalize(row.getEmail()), row) != null || !nicknames.add(normalize(row.getNickname()))) {
+                byEmail.remove(normalize(row.getEmail()), row);
+                tally.duplicates++;
+                duplicateCounter.increment();
+            }
+        }
+
+        removeExisting(byEmail, tally);
+        if (byEmail.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> parameters = hashPasswords(byEmail.values());
+        // INSERT 전에 인덱스에 추가 + 배치 단위로 한 번에 전파 (일반 가입과 같은 순서: 실패해도 오탐만 늘어남)
+        memberAvailabilityService.recordAll(byEmail.values());
+
+        long inserted = transactionTemplate.execute(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, parameters);
+            return countInserted(parameters);
+        });
+
+        tally.imported += inserted;
+        importedCounter.increment(inserted);
+        tally.duplicates += parameters.size() - inserted;
+        duplicateCounter.increment(parameters.size() - inserted);
+
+        batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * rewriteBatchedStatements 사용 시 드라이버가 행별 결과 대신 SUCCESS_NO_INFO 를 돌려주므로 결과 배열로는 중복을 구분할 수 없음
+     * 솔트가 행마다 다른 해시 값이 그대로 저장된 행 = 이번 배치가 저장한 행 (같은 트랜잭션이므로 주 DB 에서 조회)
+     */
+    private long countInserted(List<Object[]> parameters) {
+        List<String> emails = new ArrayList<>(parameters.size());
+        Set<String> hashes = new HashSet<>();
+        for (Object[] row : parameters) {
+            emails.add((String) row[0]);
+            hashes.add((String) row[1]);
+        }
+
+        return namedParameterJdbcTemplate.queryForList("SELECT password FROM members WHERE email IN (:values)",
+                Map.of("values", emails), String.class).stream().filter(hashes::contains).count();
+    }
+
+    private void removeExisting(Map<String, SignupRequest> byEmail, Tally tally) {
+        if (byEmail.isEmpty()) {
+            return;
+        }
+
+        List<String> emails = byEmail.values().stream().map(SignupRequest::getEmail).toList();
+        List<String> nicknames = byEmail.values().stream().map(SignupRequest::getNickname).toList();
+
+        Set<String> takenEmails = new HashSet<>();
+        namedParameterJdbcTemplate.queryForList("SELECT email FROM members WHERE email IN (:values)",
+                Map.of("values", emails), String.class).forEach(email -> takenEmails.add(normalize(email)));
+        Set<String> takenNicknames = new HashSet<>();
+        namedParameterJdbcTemplate.queryForList("SELECT nickname FROM members WHERE nickname IN (:values)",
+                Map.of("values", nicknames), String.class).forEach(nickname -> takenNicknames.add(normalize(nickname)));
+
+        Iterator<Map.Entry<String, SignupRequest>> iterator = byEmail.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, SignupRequest> entry = iterator.next();
+            if (takenEmails.contains(entry.getKey()) || takenNicknames.contains(normalize(entry.getValue().getNickname()))) {
+                iterator.remove();
+                tally.duplicates++;
+                duplicateCounter.increment();
+            }
+        }
+    }
+
+    private List<Object[]> hashPasswords(Collection<SignupRequest> rows) {
+        List<Future<Object[]>> futures = new ArrayList<>(rows.size());
+        for (SignupRequest row : rows) {
+            futures.add(hashExecutor.submit(() -> new Object[]{
+                    row.getEmail(),
+                    passwordEncoder.encode(row.getPassword()),
+                    row.getNickname(),
+                    Role.USER.name()
+            }));
+        }
+
+        List<Object[]> parameters = new ArrayList<>(futures.size());
+        try {
+            for (Future<Object[]> future : futures) {
+                parameters.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.SERVER_BUSY);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("비밀번호 해시 처리 실패", e.getCause());
+        }
+        return parameters;
+    }
+
+    private static String normalize(String value) {
+        return value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter rowCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("member.import.rows")
+                .tag("result", result)
+                .description("대량 가입 처리 행 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    private static final class Tally {
+        long requested;
+        long imported;
+        long duplicates;
+        long invalid;
+    }
+}
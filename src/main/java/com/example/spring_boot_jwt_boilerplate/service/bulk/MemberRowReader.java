@@ -0,0 +1,157 @@
+package com.example.spring_boot_jwt_boilerplate.service.bulk;
+
+import com.example.spring_boot_jwt_boilerplate.dto.auth.SignupRequest;
+import com.example.spring_boot_jwt_boilerplate.exception.CustomException;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorCode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 가입 입력을 한 행씩 읽는 스트리밍 리더 (전체를 메모리에 올리지 않음)
+ * 1. text/csv: 첫 줄은 헤더 (email, password, nickname 순서 무관), 큰따옴표 필드 지원
+ * 2. application/json: 객체 배열 / application/x-ndjson: 한 줄에 객체 하나
+ * 형식이 잘못된 CSV 행은 null 로 돌려주어 invalid 로 집계합니다.
+ */
+abstract class MemberRowReader implements Closeable {
+
+    static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    static MemberRowReader open(InputStream body, MediaType contentType, ObjectMapper objectMapper) throws IOException {
+        if (TEXT_CSV.isCompatibleWith(contentType)) {
+            return new Csv(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+        }
+        return new Json(objectMapper.readerFor(SignupRequest.class).readValues(body));
+    }
+
+    abstract boolean hasNext() throws IOException;
+
+    abstract SignupRequest next() throws IOException;
+
+    private static final class Json extends MemberRowReader {
+
+        private final MappingIterator<SignupRequest> iterator;
+
+        Json(MappingIterator<SignupRequest> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        boolean hasNext() throws IOException {
+            return iterator.hasNextValue();
+        }
+
+        @Override
+        SignupRequest next() throws IOException {
+            return iterator.nextValue();
+        }
+
+        @Override
+        public void close() throws IOException {
+            iterator.close();
+        }
+    }
+
+    private static final class Csv extends MemberRowReader {
+
+        private final BufferedReader reader;
+        private final int emailColumn;
+        private final int passwordColumn;
+        private final int nicknameColumn;
+        private String nextLine;
+
+        Csv(BufferedReader reader) throws IOException {
+            this.reader = reader;
+
+            String header = reader.readLine();
+            List<String> columns = header == null ? null : split(header.strip().toLowerCase());
+            if (columns == null) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            this.emailColumn = columns.indexOf("email");
+            this.passwordColumn = columns.indexOf("password");
+            this.nicknameColumn = columns.indexOf("nickname");
+            if (emailColumn < 0 || passwordColumn < 0 || nicknameColumn < 0) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+
+        @Override
+        boolean hasNext() throws IOException {
+            while (nextLine == null) {
+                String line = reader.readLine();
+                if (line == null) {
+                    return false;
+                }
+                if (!line.isBlank()) {
+                    nextLine = line;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        SignupRequest next() throws IOException {
+            if (!hasNext()) {
+                return null;
+            }
+            List<String> fields = split(nextLine);
+            nextLine = null;
+
+            if (fields == null || fields.size() <= Math.max(emailColumn, Math.max(passwordColumn, nicknameColumn))) {
+                return null;
+            }
+            return new SignupRequest(
+                    fields.get(emailColumn).strip(),
+                    fields.get(passwordColumn),
+                    fields.get(nicknameColumn).strip());
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        /**
+         * RFC 4180 한 줄 분리 (필드 안의 줄바꿈은 지원하지 않음)
+         * @return 따옴표가 닫히지 않은 행이면 null
+         */
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+
+            if (quoted) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
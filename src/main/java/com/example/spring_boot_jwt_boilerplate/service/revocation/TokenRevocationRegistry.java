@@ -0,0 +1,81 @@
+package com.example.spring_boot_jwt_boilerplate.service.revocation;
+
+import com.example.spring_boot_jwt_boilerplate.config.VerifiedToken;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access Token 폐기 목록의 로컬 near-cache
+ * 필터는 이 객체만 조회하므로 요청마다 Redis 왕복이 추가되지 않습니다.
+ * 1. revokedTokenIds : 폐기된 jti -> 토큰 만료시각 (만료 후 자동 정리)
+ * 2. revokedSessionIds : 폐기된 세션(sid) -> 그 세션의 마지막 AT 가 만료되는 시각 (해당 기기의 AT 만 폐기)
+ * 3. userEpochs      : 이메일 -> 기준 시각, 이 시각 이전(포함)에 발급된 토큰은 모두 폐기
+ * 세 목록 모두 Access Token 수명 동안만 유지되므로 크기는 "AT 수명 동안의 폐기 건수"로 제한됩니다.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private final Map<String, Long> revokedTokenIds = new ConcurrentHashMap<>();
+    private final Map<String, Long> revokedSessionIds = new ConcurrentHashMap<>();
+    private final Map<String, Long> userEpochs = new ConcurrentHashMap<>();
+
+    /**
+     * @param token 서명 검증이 끝난 토큰
+     * @return 폐기 여부
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        if (!revokedTokenIds.isEmpty() && token.getTokenId() != null
+                && revokedTokenIds.containsKey(token.getTokenId())) {
+            return true;
+        }
+
+        if (!revokedSessionIds.isEmpty() && token.getSessionId() != null
+                && revokedSessionIds.containsKey(token.getSessionId())) {
+            return true;
+        }
+
+        if (!userEpochs.isEmpty()) {
+            Long epoch = userEpochs.get(token.getSubject());
+            // iat 는 초 단위이므로 같은 초에 발급된 토큰도 폐기 (안전한 쪽으로 처리)
+            return epoch != null && token.getIssuedAt() <= epoch;
+        }
+        return false;
+    }
+
+    public void revokeToken(String tokenId, long expiresAt) {
+        revokedTokenIds.merge(tokenId, expiresAt, Math::max);
+    }
+
+    public void revokeSession(String sessionId, long expiresAt) {
+        revokedSessionIds.merge(sessionId, expiresAt, Math::max);
+    }
+
+    public void revokeUser(String email, long epoch) {
+        userEpochs.merge(email, epoch, Math::max);
+    }
+
+    /**
+     * 만료되어 더 이상 의미 없는 항목 정리
+     * @param now 현재 시각
+     * @param accessTokenValidity AT 유효시간 (이보다 오래된 기준 시각은 불필요)
+     */
+    public void purgeExpired(long now, long accessTokenValidity) {
+        revokedTokenIds.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedSessionIds.values().removeIf(expiresAt -> expiresAt <= now);
+        userEpochs.values().removeIf(epoch -> epoch + accessTokenValidity <= now);
+    }
+
+    public int revokedTokenCount() {
+        return revokedTokenIds.size();
+    }
+
+    public int revokedSessionCount() {
+        return revokedSessionIds.size();
+    }
+
+    public int revokedUserCount() {
+        return userEpochs.size();
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.spring_boot_jwt_boilerplate.service.revocation;
+
+import com.example.spring_boot_jwt_boilerplate.config.JwtTokenProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Access Token 폐기 (로그아웃 / Refresh Token 재사용 감지 / 관리자 강제 폐기)
+ * 1. Redis 에 폐기 정보 저장 (BL:J:{jti}, BL:S:{sid}, BL:U:{email}) - 재기동 / 신규 인스턴스용
+ * 2. Pub/Sub 채널로 모든 인스턴스의 TokenRevocationRegistry 에 전파
+ * 3. 기동 시 SCAN 으로 기존 폐기 정보를 로컬에 적재 (KEYS 미사용)
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements MessageListener {
+
+    public static final String CHANNEL = "token-revocations";
+
+    private static final String TOKEN_KEY_PREFIX = "BL:J:";
+    private static final String SESSION_KEY_PREFIX = "BL:S:";
+    private static final String USER_KEY_PREFIX = "BL:U:";
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final TokenRevocationRegistry registry;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public TokenRevocationService(StringRedisTemplate redisTemplate,
+                                  TokenRevocationRegistry registry,
+                                  JwtTokenProvider jwtTokenProvider,
+                                  MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.registry = registry;
+        this.jwtTokenProvider = jwtTokenProvider;
+
+        Gauge.builder("token.revocation.entries", registry, TokenRevocationRegistry::revokedTokenCount)
+                .tag("type", "token")
+                .register(meterRegistry);
+        Gauge.builder("token.revocation.entries", registry, TokenRevocationRegistry::revokedSessionCount)
+                .tag("type", "session")
+                .register(meterRegistry);
+        Gauge.builder("token.revocation.entries", registry, TokenRevocationRegistry::revokedUserCount)
+                .tag("type", "user")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 특정 Access Token 폐기 (로그아웃)
+     * @param tokenId 토큰의 jti
+     * @param expiresAt 토큰 만료시각 (이후에는 폐기 정보가 필요 없음)
+     */
+    public void revokeToken(String tokenId, long expiresAt) {
+        long ttl = expiresAt - System.currentTimeMillis();
+        if (tokenId == null || ttl <= 0) {
+            return;
+        }
+
+        registry.revokeToken(tokenId, expiresAt);
+        redisTemplate.opsForValue().set(TOKEN_KEY_PREFIX + tokenId, String.valueOf(expiresAt), Duration.ofMillis(ttl));
+        redisTemplate.convertAndSend(CHANNEL, "J " + expiresAt + " " + tokenId);
+    }
+
+    /**
+     * 한 세션(기기)에 발급된 모든 Access Token 폐기 (Refresh Token 재사용 감지)
+     * 세션은 저장소에서 이미 삭제되어 새 AT 가 발급되지 않으므로 AT 수명 동안만 유지
+     * @param sessionId 토큰의 sid
+     */
+    public void revokeSession(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        long ttl = jwtTokenProvider.getAccessTokenValidityInMilliseconds();
+        long expiresAt = System.currentTimeMillis() + ttl;
+
+        registry.revokeSession(sessionId, expiresAt);
+        redisTemplate.opsForValue().set(SESSION_KEY_PREFIX + sessionId, String.valueOf(expiresAt), Duration.ofMillis(ttl));
+        redisTemplate.convertAndSend(CHANNEL, "S " + expiresAt + " " + sessionId);
+    }
+
+    /**
+     * 사용자의 현재까지 발급된 모든 Access Token 폐기 (관리자 강제 폐기)
+     * @param email 대상 사용자 이메일
+     */
+    public void revokeUser(String email) {
+        long epoch = System.currentTimeMillis();
+        long ttl = jwtTokenProvider.getAccessTokenValidityInMilliseconds();
+
+        registry.revokeUser(email, epoch);
+        redisTemplate.opsForValue().set(USER_KEY_PREFIX + email, String.valueOf(epoch), Duration.ofMillis(ttl));
+        redisTemplate.convertAndSend(CHANNEL, "U " + epoch + " " + email);
+    }
+
+    /**
+     * 다른 인스턴스에서 발생한 폐기 이벤트 수신
+     * 형식: "J {만료시각} {jti}", "S {만료시각} {sid}" 또는 "U {기준시각} {email}"
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(" ", 3);
+        if (parts.length != 3) {
+            log.warn("[TokenRevocationService] 알 수 없는 메시지 형식: {}", (Object) parts);
+            return;
+        }
+
+        long timestamp;
+        try {
+            timestamp = Long.parseLong(parts[1]);
+        } catch (NumberFormatException e) {
+            log.warn("[TokenRevocationService] 시각을 읽을 수 없는 메시지 무시: {}", (Object) parts);
+            return;
+        }
+        if ("J".equals(parts[0])) {
+            registry.revokeToken(parts[2], timestamp);
+        } else if ("S".equals(parts[0])) {
+            registry.revokeSession(parts[2], timestamp);
+        } else if ("U".equals(parts[0])) {
+            registry.revokeUser(parts[2], timestamp);
+        }
+    }
+
+    /**
+     * Pub/Sub 구독(RedisMessageListenerContainer) 시작 이후 기존 폐기 정보를 적재
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void loadFromRedis() {
+        try {
+            int tokens = load(TOKEN_KEY_PREFIX, (id, value) -> registry.revokeToken(id, value));
+            int sessions = load(SESSION_KEY_PREFIX, (sid, value) -> registry.revokeSession(sid, value));
+            int users = load(USER_KEY_PREFIX, (email, value) -> registry.revokeUser(email, value));
+            log.info("[TokenRevocationService] 폐기 목록 적재 완료 (토큰 {}건, 세션 {}건, 사용자 {}건)", tokens, sessions, users);
+        } catch (RuntimeException e) {
+            log.warn("[TokenRevocationService] 폐기 목록 적재 실패, Pub/Sub 이벤트만 반영합니다.", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:30000}")
+    public void purgeExpired() {
+        registry.purgeExpired(System.currentTimeMillis(), jwtTokenProvider.getAccessTokenValidityInMilliseconds());
+    }
+
+    private int load(String prefix, RevocationConsumer consumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_BATCH_SIZE).build();
+        int loaded = 0;
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> keys = new ArrayList<>(SCAN_BATCH_SIZE);
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_BATCH_SIZE || !cursor.hasNext()) {
+                    loaded += apply(prefix, keys, consumer);
+                    keys.clear();
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private int apply(String prefix, List<String> keys, RevocationConsumer consumer) {
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return 0;
+        }
+
+        int applied = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            try {
+                consumer.accept(keys.get(i).substring(prefix.length()), Long.parseLong(value));
+                applied++;
+            } catch (NumberFormatException e) {
+                log.warn("[TokenRevocationService] 값을 읽을 수 없는 폐기 키 건너뜀: {}={}", keys.get(i), value);
+            }
+        }
+        return applied;
+    }
+
+    @FunctionalInterface
+    private interface RevocationConsumer {
+        void accept(String id, long value);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.spring_boot_jwt_boilerplate;
+
+import org.springframework.boot.SpringApplication;
+
+/**
+ * 외부 MySQL / Redis 없이 실행 (local 프로필: H2 MySQL 모드 + 프로세스 내 Redis)
+ * 실행: ./gradlew bootRunLocal
+ */
+public class LocalSpringBootJwtBoilerplateApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.from(SpringBootJwtBoilerplateApplication::main)
+                .withAdditionalProfiles("local")
+                .run(args);
+    }
+}
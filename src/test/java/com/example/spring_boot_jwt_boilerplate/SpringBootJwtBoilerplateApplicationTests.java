@@ -2,8 +2,11 @@ package com.example.spring_boot_jwt_boilerplate;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
+// 외부 MySQL / Redis 없이 실행 (application-local.yaml, LocalStandInConfig)
 @SpringBootTest
+@ActiveProfiles("local")
 class SpringBootJwtBoilerplateApplicationTests {
 
 	@Test
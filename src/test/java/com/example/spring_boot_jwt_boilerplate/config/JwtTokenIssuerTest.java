@@ -0,0 +1,110 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenIssuerTest {
+
+    private static final Key KEY = Keys.hmacShaKeyFor(JwtTokenProviderFixture.SECRET.getBytes());
+    private static final long ISSUED_AT = 1_760_000_000_123L;
+    private static final long VALIDITY = 3_600_000L;
+
+    private final JwtTokenIssuer issuer = new JwtTokenIssuer(JwtTokenProviderFixture.SECRET.getBytes());
+
+    @Test
+    void issuesSameTokenAsJjwtBuilder() {
+        AuthenticatedMember member = new AuthenticatedMember(42L, "user@test.com", Role.ADMIN);
+
+        assertThat(issuer.issue(member, "session-1", "token-1", ISSUED_AT, VALIDITY))
+                .isEqualTo(jjwt(member, "session-1", "token-1"));
+        assertThat(issuer.issue(member, null, "token-1", ISSUED_AT, VALIDITY))
+                .isEqualTo(jjwt(member, null, "token-1"));
+    }
+
+    @Test
+    void escapesClaimValuesLikeJackson() {
+        AuthenticatedMember member = new AuthenticatedMember(7L, "\"quote\\slash\n\u0001é😀\"@test.com", Role.USER);
+
+        assertThat(issuer.issue(member, "sid", "jti", ISSUED_AT, VALIDITY))
+                .isEqualTo(jjwt(member, "sid", "jti"));
+    }
+
+    @Test
+    void escapesControlCharactersWithUppercaseHexLikeJackson() {
+        // 0x0B, 0x1F 처럼 16진수 표기에 알파벳이 들어가는 제어 문자
+        AuthenticatedMember member = new AuthenticatedMember(7L, "a\u000bb\u000ec\u001fd@test.com", Role.USER);
+
+        assertThat(issuer.issue(member, "sid\u001a", "jti", ISSUED_AT, VALIDITY))
+                .isEqualTo(jjwt(member, "sid\u001a", "jti"));
+    }
+
+    @Test
+    void issuedPairIsVerifiedByProvider() {
+        JwtTokenProvider provider = JwtTokenProviderFixture.create(60_000L, 3_600_000L);
+        AuthenticatedMember member = JwtTokenProviderFixture.member("pair@test.com");
+
+        TokenPair pair = provider.createTokenPair(member, "session-1", "refresh-1");
+        VerifiedToken access = provider.verify(pair.accessToken()).getToken();
+        VerifiedToken refresh = provider.verify(pair.refreshToken()).getToken();
+
+        assertThat(access.getSubject()).isEqualTo("pair@test.com");
+        assertThat(access.getMemberId()).isEqualTo(1L);
+        assertThat(access.getRole()).isEqualTo(Role.USER);
+        assertThat(access.getSessionId()).isEqualTo("session-1");
+        assertThat(refresh.getTokenId()).isEqualTo("refresh-1");
+        assertThat(refresh.getSessionId()).isEqualTo("session-1");
+        assertThat(access.getIssuedAt()).isEqualTo(refresh.getIssuedAt());
+        assertThat(access.getExpiration()).isLessThan(refresh.getExpiration());
+    }
+
+    @Test
+    void pooledMacsSignCorrectlyUnderConcurrency() throws Exception {
+        JwtTokenProvider provider = JwtTokenProviderFixture.create(60_000L, 3_600_000L);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 2_000; i++) {
+                String email = "user" + i + "@test.com";
+                results.add(executor.submit(() -> {
+                    TokenPair pair = provider.createTokenPair(JwtTokenProviderFixture.member(email), "sid", "jti");
+                    return email.equals(provider.verify(pair.accessToken()).getToken().getSubject())
+                            && provider.verify(pair.refreshToken()).isValid();
+                }));
+            }
+        }
+
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+    }
+
+    private static String jjwt(AuthenticatedMember member, String sessionId, String tokenId) {
+        var claims = Jwts.claims().setSubject(member.email());
+        claims.put(JwtTokenProvider.MEMBER_ID_CLAIM, member.id());
+        claims.put(JwtTokenProvider.ROLE_CLAIM, member.role().name());
+        if (sessionId != null) {
+            claims.put(JwtTokenProvider.SESSION_ID_CLAIM, sessionId);
+        }
+        return Jwts.builder()
+                .setClaims(claims)
+                .setId(tokenId)
+                .setIssuedAt(new Date(ISSUED_AT))
+                .setExpiration(new Date(ISSUED_AT + VALIDITY))
+                .signWith(KEY, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 스프링 컨텍스트 없이 JwtTokenProvider 를 만드는 테스트용 헬퍼
+ */
+public final class JwtTokenProviderFixture {
+
+    public static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256-signing";
+
+    private JwtTokenProviderFixture() {
+    }
+
+    public static JwtTokenProvider create(long accessTokenValidity, long refreshTokenValidity) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "accessTokenValidityInMilliseconds", accessTokenValidity);
+        ReflectionTestUtils.setField(provider, "refreshTokenValidityInMilliseconds", refreshTokenValidity);
+        provider.init();
+        return provider;
+    }
+
+    /**
+     * 토큰 발급용 principal (USER 권한)
+     */
+    public static AuthenticatedMember member(String email) {
+        return new AuthenticatedMember(1L, email, Role.USER);
+    }
+}
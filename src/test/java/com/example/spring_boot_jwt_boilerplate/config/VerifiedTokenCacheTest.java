@@ -0,0 +1,147 @@
+package com.example.spring_boot_jwt_boilerplate.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final int THREADS = 16;
+    private static final int ITERATIONS = 2_000;
+
+    @Test
+    void cacheHitSkipsVerificationAndCountsStats() {
+        JwtTokenProvider provider = JwtTokenProviderFixture.create(60_000L, 3_600_000L);
+        VerifiedTokenCache cache = new VerifiedTokenCache(provider, true, 100);
+        String token = provider.createAccessToken(JwtTokenProviderFixture.member("user@test.com"));
+
+        TokenVerification first = cache.verify(token);
+        TokenVerification second = cache.verify(token);
+
+        assertThat(first.isValid()).isTrue();
+        assertThat(second).isSameAs(first);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void headerOffsetLookupSharesEntryWithBareToken() {
+        JwtTokenProvider provider = JwtTokenProviderFixture.create(60_000L, 3_600_000L);
+        VerifiedTokenCache cache = new VerifiedTokenCache(provider, true, 100);
+        String token = provider.createAccessToken(JwtTokenProviderFixture.member("user@test.com"));
+
+        TokenVerification fromHeader = cache.verify("Bearer " + token, 7);
+        TokenVerification fromToken = cache.verify(token);
+
+        assertThat(fromHeader.isValid()).isTrue();
+        assertThat(fromToken).isSameAs(fromHeader);
+        assertThat(cache.verify("Bearer " + tamper(token), 7).isValid()).isFalse();
+    }
+
+    @Test
+    void tamperedTokenIsNeverServedFromCacheUnderConcurrency() throws Exception {
+        JwtTokenProvider provider = JwtTokenProviderFixture.create(60_000L, 3_600_000L);
+        VerifiedTokenCache cache = new VerifiedTokenCache(provider, true, 100);
+        String token = provider.createAccessToken(JwtTokenProviderFixture.member("user@test.com"));
+        String tampered = tamper(token);
+
+        AtomicInteger tamperedAccepted = new AtomicInteger();
+        AtomicInteger validRejected = new AtomicInteger();
+
+        runConcurrently(i -> {
+            if (i % 2 == 0) {
+                if (!cache.verify(token).isValid()) {
+                    validRejected.incrementAndGet();
+                }
+            } else if (cache.verify(tampered).isValid()) {
+                tamperedAccepted.incrementAndGet();
+            }
+        });
+
+        assertThat(tamperedAccepted).hasValue(0);
+        assertThat(validRejected).hasValue(0);
+        assertThat(cache.stats().hitCount()).isPositive();
+    }
+
+    @Test
+    void expiredTokenIsNeverServedFromCacheUnderConcurrency() throws Exception {
+        // JWT exp 는 초 단위이므로 만료까지 최대 2초
+        JwtTokenProvider provider = JwtTokenProviderFixture.create(1_000L, 3_600_000L);
+        VerifiedTokenCache cache = new VerifiedTokenCache(provider, true, 100);
+        String token = provider.createAccessToken(JwtTokenProviderFixture.member("user@test.com"));
+
+        TokenVerification cached = cache.verify(token);
+        assertThat(cached.isValid()).isTrue();
+
+        long expiration = cached.getToken().getExpiration();
+        while (System.currentTimeMillis() <= expiration) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+
+        AtomicInteger expiredAccepted = new AtomicInteger();
+        runConcurrently(i -> {
+            if (cache.verify(token).isValid()) {
+                expiredAccepted.incrementAndGet();
+            }
+        });
+
+        assertThat(expiredAccepted).hasValue(0);
+        assertThat(cache.verify(token).getStatus()).isEqualTo(TokenVerification.Status.EXPIRED);
+    }
+
+    @Test
+    void disabledCacheDelegatesToProvider() {
+        JwtTokenProvider provider = JwtTokenProviderFixture.create(60_000L, 3_600_000L);
+        VerifiedTokenCache cache = new VerifiedTokenCache(provider, false, 100);
+        String token = provider.createAccessToken(JwtTokenProviderFixture.member("user@test.com"));
+
+        assertThat(cache.verify(token).isValid()).isTrue();
+        assertThat(cache.verify(token).isValid()).isTrue();
+        assertThat(cache.stats().requestCount()).isZero();
+    }
+
+    private static String tamper(String token) {
+        // payload 중간 문자 하나를 바꿔 서명 불일치 유도
+        int index = token.indexOf('.') + 5;
+        char replacement = token.charAt(index) == 'A' ? 'B' : 'A';
+        return token.substring(0, index) + replacement + token.substring(index + 1);
+    }
+
+    private static void runConcurrently(IterationTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        task.run(offset + i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IterationTask {
+        void run(int iteration);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.spring_boot_jwt_boilerplate.config.datasource;
+
+import com.example.spring_boot_jwt_boilerplate.dto.auth.SignupRequest;
+import com.example.spring_boot_jwt_boilerplate.repository.MemberRepository;
+import com.example.spring_boot_jwt_boilerplate.service.AuthService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서로 다른 H2 메모리 DB 두 개(replica-a, replica-b)를 replica 로 두고 복제는 하지 않음
+ * 1. replica 에만 있는 행이 보이면 replica 에서, primary 에만 있는 행이 보이면 primary 에서 읽은 것
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rw-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "datasource.replica.urls="
+                + "jdbc:h2:mem:rw-replica-a;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:replica-schema.sql',"
+                + "jdbc:h2:mem:rw-replica-b;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:replica-schema.sql'",
+        "datasource.replica.maximum-pool-size=4"
+})
+@ActiveProfiles("local")
+class ReplicaRoutingTest {
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void readOnlyTransactionsReadReplicaAndOthersReadPrimary() {
+        String email = "replica-only@test.com";
+        routingDataSource.getReplicas().forEach(replica -> new JdbcTemplate(replica).update(
+                "insert into members (email, password, nickname, role) values (?, ?, ?, ?)",
+                email, "{bcrypt}hash", "replica", "USER"));
+
+        assertThat(readOnly(() -> memberRepository.existsByEmail(email))).isTrue();
+        assertThat(readWrite(() -> memberRepository.existsByEmail(email))).isFalse();
+        assertThat(memberRepository.existsByEmail(email)).isFalse(); // 트랜잭션 밖
+    }
+
+    @Test
+    void signupIsReadableRightAfterward() {
+        String email = "ryw@test.com";
+        authService.signup(new SignupRequest(email, "password1!", "ryw"));
+
+        // replica 에는 복제되지 않았으므로 그냥 읽으면 없음
+        assertThat(readOnly(() -> memberRepository.existsByEmail(email))).isFalse();
+        // 가입 직후의 중복 확인은 primary 에서 읽음
+        assertThat(authService.isEmailDuplicate(email)).isTrue();
+        assertThat(authService.isNicknameDuplicate("ryw")).isTrue();
+    }
+
+    @Test
+    void anotherInstanceFallsBackToPrimaryWhenTheReplicaHasNoRow() {
+        String email = "other-instance@test.com";
+        String nickname = "other";
+        // 이 인스턴스(RecentWriteTracker 빈)에서 가입 -> 쓰기 기록은 이 인스턴스에만 남음
+        authService.signup(new SignupRequest(email, "password1!", nickname));
+
+        // 쓰기를 모르는 다른 인스턴스의 tracker
+        RecentWriteTracker otherInstance = new RecentWriteTracker(
+                routingDataSource, transactionManager, Duration.ofSeconds(5), 100);
+
+        assertThat(readOnly(() -> memberRepository.existsByEmail(email))).isFalse();
+        assertThat(readOnly(() -> otherInstance.exists(email, () -> memberRepository.existsByEmail(email)))).isTrue();
+        assertThat(readOnly(() -> otherInstance.find(email, () -> memberRepository.findByEmail(email)))).isPresent();
+        assertThat(readOnly(() -> otherInstance.exists(RecentWriteTracker.nicknameKey(nickname),
+                () -> memberRepository.existsByNickname(nickname)))).isTrue();
+
+        // 어디에도 없는 회원은 재조회 후에도 없음
+        assertThat(readOnly(() -> otherInstance.exists("nobody@test.com",
+                () -> memberRepository.existsByEmail("nobody@test.com")))).isFalse();
+    }
+
+    @Test
+    void picksTheLessBusyReplica() throws Exception {
+        HikariDataSource busy = routingDataSource.getReplicas().get(0);
+        HikariDataSource idle = routingDataSource.getReplicas().get(1);
+
+        try (Connection held = busy.getConnection()) {
+            for (int i = 0; i < 10; i++) {
+                assertThat(readOnly(routingDataSource::target)).isSameAs(idle);
+            }
+        }
+        assertThat(readWrite(routingDataSource::target)).isSameAs(routingDataSource.getPrimary());
+    }
+
+    private <T> T readOnly(Supplier<T> action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> action.get());
+    }
+
+    private <T> T readWrite(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.spring_boot_jwt_boilerplate.config.jwk;
+
+import com.example.spring_boot_jwt_boilerplate.local.LocalRedis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private LocalRedis redis;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = LocalRedis.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        redis.close();
+    }
+
+    @Test
+    void activationDelayCoversJwksCacheLifetime() {
+        JwtKeyRing ring = new JwtKeyRing(redis.template(), new ObjectMapper(), Duration.ofDays(1),
+                Duration.ofSeconds(60), Duration.ofMinutes(5), Duration.ofMinutes(1), 3_600_000L);
+
+        assertThat(ring.activationDelay()).isEqualTo(Duration.ofMinutes(8));
+    }
+
+    @Test
+    void concurrentColdStartsShareOneKey() throws Exception {
+        int instances = 6;
+        List<JwtKeyRing> rings = new ArrayList<>();
+        for (int i = 0; i < instances; i++) {
+            rings.add(newRing(Duration.ofDays(1)));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(instances);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (JwtKeyRing ring : rings) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ring.init();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Set<String> kids = rings.stream().map(ring -> ring.signingKey().kid()).collect(Collectors.toSet());
+        assertThat(kids).hasSize(1);
+        assertThat(redis.template().opsForHash().size("JWK:keys")).isEqualTo(1);
+        assertThat(redis.template().hasKey("JWK:rotation-lock")).isFalse();
+    }
+
+    @Test
+    void coldStartWaitsForLockHeldByAnotherInstance() {
+        redis.template().opsForValue().set("JWK:rotation-lock", "other-instance", Duration.ofSeconds(1));
+        JwtKeyRing ring = newRing(Duration.ofDays(1));
+
+        ring.init(); // 락이 만료된 뒤 직접 생성
+
+        assertThat(ring.signingKey()).isNotNull();
+    }
+
+    @Test
+    void startsAfterDowntimeLongerThanRetention() throws Exception {
+        // 보관 기간(1일 + 활성화 지연 + RT 수명)보다 오래전에 만든 키만 남아 있는 상태
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair stale = generator.generateKeyPair();
+        long createdAt = System.currentTimeMillis() - Duration.ofDays(3).toMillis();
+        redis.template().opsForHash().put("JWK:keys", "stale", createdAt
+                + "." + Base64.getEncoder().encodeToString(stale.getPrivate().getEncoded())
+                + "." + Base64.getEncoder().encodeToString(stale.getPublic().getEncoded()));
+
+        // 기본 설정과 같은 8분 활성화 지연 -> 새 키를 기다리면 init 이 시간 초과
+        JwtKeyRing ring = new JwtKeyRing(redis.template(), new ObjectMapper(), Duration.ofDays(1),
+                Duration.ofSeconds(60), Duration.ofMinutes(5), Duration.ofMinutes(1), 3_600_000L);
+        long startedAt = System.nanoTime();
+        ring.init();
+
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt)).isLessThan(5);
+        assertThat(ring.signingKey().kid()).isNotEqualTo("stale");
+        assertThat(jwksKids(ring)).containsExactly(ring.signingKey().kid());
+        assertThat(redis.template().opsForHash().hasKey("JWK:keys", "stale")).isFalse();
+    }
+
+    @Test
+    void newKeyIsPublishedBeforeItSigns() throws Exception {
+        JwtKeyRing ring = newRing(Duration.ofSeconds(1));
+        ring.init();
+        String first = ring.signingKey().kid();
+        String token = sign(ring);
+
+        TimeUnit.MILLISECONDS.sleep(1_100);
+        ring.refresh();
+
+        // 교체 직후: 새 키는 JWKS 에 공개되지만 서명은 아직 이전 키
+        assertThat(ring.signingKey().kid()).isEqualTo(first);
+        assertThat(jwksKids(ring)).hasSize(2).contains(first);
+
+        TimeUnit.MILLISECONDS.sleep(300); // 활성화 지연(refresh-interval x 2) 경과
+        ring.refresh();
+
+        String second = ring.signingKey().kid();
+        assertThat(second).isNotEqualTo(first);
+        assertThat(jwksKids(ring)).containsExactlyInAnyOrder(first, second);
+        // 이전 키로 서명된 토큰도 계속 검증
+        assertThat(parse(ring, token)).isEqualTo("user@test.com");
+        assertThat(parse(ring, sign(ring))).isEqualTo("user@test.com");
+    }
+
+    @Test
+    void unknownKidIsRejected() throws Exception {
+        JwtKeyRing ring = newRing(Duration.ofDays(1));
+        ring.init();
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        String forged = Jwts.builder()
+                .setHeaderParam("kid", "unknown")
+                .setSubject("user@test.com")
+                .signWith(generator.generateKeyPair().getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+
+        assertThatThrownBy(() -> parse(ring, forged)).isInstanceOf(SignatureException.class);
+    }
+
+    // 활성화 지연 200ms (JWKS 캐시 0)
+    private JwtKeyRing newRing(Duration rotationPeriod) {
+        return new JwtKeyRing(redis.template(), new ObjectMapper(), rotationPeriod,
+                Duration.ofMillis(100), Duration.ZERO, Duration.ZERO, 3_600_000L);
+    }
+
+    private static String sign(JwtKeyRing ring) {
+        JwtKeyRing.SigningKey key = ring.signingKey();
+        return Jwts.builder()
+                .setHeaderParam("kid", key.kid())
+                .setSubject("user@test.com")
+                .signWith(key.privateKey(), SignatureAlgorithm.ES256)
+                .compact();
+    }
+
+    private static String parse(JwtKeyRing ring, String token) {
+        return Jwts.parserBuilder()
+                .setSigningKeyResolver(ring)
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    private static List<String> jwksKids(JwtKeyRing ring) throws Exception {
+        List<String> kids = new ArrayList<>();
+        new ObjectMapper().readTree(ring.jwksBody()).get("keys").forEach(key -> kids.add(key.get("kid").asText()));
+        return kids;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.spring_boot_jwt_boilerplate.config.password;
+
+import com.example.spring_boot_jwt_boilerplate.exception.CustomException;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BCrypt 처럼 인터럽트를 무시하는 느린 해시로, timeout 뒤에도 실행 중인 작업이 자리를 점유하는지 확인
+ */
+class PasswordHashExecutorTest {
+
+    @Test
+    void timedOutHashKeepsItsSlotUntilItFinishes() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHashExecutor executor = new PasswordHashExecutor(
+                new BlockingEncoder(release), new SimpleMeterRegistry(), 1, 0, Duration.ofMillis(100));
+
+        try {
+            assertThatThrownBy(() -> executor.encode("first"))
+                    .isInstanceOfSatisfying(CustomException.class,
+                            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SERVER_BUSY));
+
+            // 첫 해시가 아직 워커를 점유 중이므로 대기 없이 바로 거절
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> executor.encode("second")).isInstanceOf(CustomException.class);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(100);
+
+            release.countDown();
+            assertThat(awaitEncode(executor, "third")).isEqualTo("hash:third");
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static String awaitEncode(PasswordHashExecutor executor, String raw) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            try {
+                return executor.encode(raw);
+            } catch (CustomException e) {
+                if (System.nanoTime() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    // 해제될 때까지 인터럽트를 무시하고 기다리는 인코더
+    private record BlockingEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            boolean interrupted = false;
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
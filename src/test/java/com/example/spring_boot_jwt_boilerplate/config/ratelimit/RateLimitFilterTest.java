@@ -0,0 +1,92 @@
+package com.example.spring_boot_jwt_boilerplate.config.ratelimit;
+
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorResponseWriter;
+import com.example.spring_boot_jwt_boilerplate.local.LocalRedis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private LocalRedis redis;
+    private RateLimiter rateLimiter;
+    private ErrorResponseWriter errorResponseWriter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = LocalRedis.start();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("reactiveStringRedisTemplate", redis.reactiveTemplate());
+        rateLimiter = new RateLimiter(redis.template(), beanFactory.getBeanProvider(ReactiveStringRedisTemplate.class),
+                new SimpleMeterRegistry(), true, Duration.ofMinutes(1), 1, 1, 1, 1_000);
+        errorResponseWriter = new ErrorResponseWriter(new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        redis.close();
+    }
+
+    @Test
+    void loginOverTheIpLimitGets429WithRetryAfter() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, errorResponseWriter);
+
+        MockHttpServletResponse first = doFilter(filter, "POST", "/api/auth/login");
+        assertThat(first.getStatus()).isEqualTo(HttpStatus.OK.value());
+
+        MockHttpServletResponse second = doFilter(filter, "POST", "/api/auth/login");
+        assertThat(second.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(Long.parseLong(second.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(1L, 60L);
+
+        // 다른 경로 / 메서드는 한도 대상이 아님
+        assertThat(doFilter(filter, "POST", "/api/auth/signup").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(doFilter(filter, "GET", "/api/auth/login").getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void webFilterAppliesTheSameLimit() {
+        RateLimitWebFilter filter = new RateLimitWebFilter(rateLimiter, errorResponseWriter);
+        AtomicInteger passed = new AtomicInteger();
+
+        MockServerWebExchange first = exchange("/api/auth/reissue");
+        filter.filter(first, e -> Mono.fromRunnable(passed::incrementAndGet)).block();
+
+        MockServerWebExchange second = exchange("/api/auth/reissue");
+        filter.filter(second, e -> Mono.fromRunnable(passed::incrementAndGet)).block();
+
+        assertThat(passed).hasValue(1);
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(second.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isNotNull();
+    }
+
+    private static MockHttpServletResponse doFilter(RateLimitFilter filter, String method, String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockServerWebExchange exchange(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post(path)
+                .remoteAddress(new InetSocketAddress("10.0.0.2", 40000)));
+    }
+}
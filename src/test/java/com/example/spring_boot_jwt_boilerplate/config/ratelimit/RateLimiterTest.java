@@ -0,0 +1,142 @@
+package com.example.spring_boot_jwt_boilerplate.config.ratelimit;
+
+import com.example.spring_boot_jwt_boilerplate.exception.RateLimitExceededException;
+import com.example.spring_boot_jwt_boilerplate.local.LocalRedis;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 LocalRedis 를 쓰는 RateLimiter 두 개 = 인스턴스 두 개
+ * 로컬 버킷은 인스턴스마다, 슬라이딩 윈도우는 Redis 에서 합산되는지 확인
+ */
+class RateLimiterTest {
+
+    private static final String IP = "10.0.0.1";
+    private static final String EMAIL = "user@test.com";
+
+    private LocalRedis redis;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = LocalRedis.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        redis.close();
+    }
+
+    @Test
+    void windowIsSharedAcrossInstances() {
+        MeterRegistry registryB = new SimpleMeterRegistry();
+        RateLimiter a = limiter(redis.template(), new SimpleMeterRegistry(), 3);
+        RateLimiter b = limiter(redis.template(), registryB, 3);
+
+        assertThat(a.tryAcquire(RateLimiter.Scope.LOGIN_IP, IP)).isZero();
+        assertThat(a.tryAcquire(RateLimiter.Scope.LOGIN_IP, IP)).isZero();
+        assertThat(b.tryAcquire(RateLimiter.Scope.LOGIN_IP, IP)).isZero();
+
+        // b 의 로컬 버킷에는 토큰이 남아 있지만 Redis 윈도우가 가득 참
+        assertThat(b.tryAcquire(RateLimiter.Scope.LOGIN_IP, IP)).isBetween(1L, 60_000L);
+        assertThat(count(registryB, "login-ip", "rejected")).isEqualTo(1);
+        assertThat(count(registryB, "login-ip", "rejected_local")).isZero();
+    }
+
+    @Test
+    void localBucketRejectsWithoutTouchingRedis() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        RateLimiter limiter = limiter(redis.template(), registry, 2);
+
+        assertThat(limiter.tryAcquire(RateLimiter.Scope.REISSUE_IP, IP)).isZero();
+        assertThat(limiter.tryAcquire(RateLimiter.Scope.REISSUE_IP, IP)).isZero();
+        assertThat(limiter.tryAcquire(RateLimiter.Scope.REISSUE_IP, IP)).isPositive();
+
+        assertThat(count(registry, "reissue-ip", "rejected_local")).isEqualTo(1);
+        assertThat(redis.template().opsForZSet().size("RL:reissue-ip:" + IP)).isEqualTo(2);
+    }
+
+    @Test
+    void emailLimitCountsOnlyFailuresAndResetsOnSuccess() {
+        RateLimiter limiter = limiter(redis.template(), new SimpleMeterRegistry(), 2);
+
+        // 확인만으로는 기록되지 않음 (성공 로그인이 한도를 소모하지 않음)
+        for (int i = 0; i < 10; i++) {
+            limiter.checkFailures(RateLimiter.Scope.LOGIN_EMAIL, EMAIL);
+        }
+
+        limiter.recordFailure(RateLimiter.Scope.LOGIN_EMAIL, EMAIL);
+        limiter.recordFailure(RateLimiter.Scope.LOGIN_EMAIL, " User@Test.com ");
+        assertThatThrownBy(() -> limiter.checkFailures(RateLimiter.Scope.LOGIN_EMAIL, EMAIL))
+                .isInstanceOfSatisfying(RateLimitExceededException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isBetween(1L, 60L));
+
+        limiter.resetFailures(RateLimiter.Scope.LOGIN_EMAIL, EMAIL);
+        assertThat(redis.template().hasKey("RL:login-email:" + EMAIL)).isFalse();
+        assertThatCode(() -> limiter.checkFailures(RateLimiter.Scope.LOGIN_EMAIL, EMAIL)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void failuresOnOneInstanceLimitTheOther() {
+        RateLimiter a = limiter(redis.template(), new SimpleMeterRegistry(), 2);
+        RateLimiter b = limiter(redis.template(), new SimpleMeterRegistry(), 2);
+
+        a.recordFailure(RateLimiter.Scope.LOGIN_EMAIL, EMAIL);
+        a.recordFailure(RateLimiter.Scope.LOGIN_EMAIL, EMAIL);
+
+        assertThatThrownBy(() -> b.checkFailures(RateLimiter.Scope.LOGIN_EMAIL, EMAIL))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void reactivePathSharesTheWindow() {
+        MeterRegistry registryB = new SimpleMeterRegistry();
+        RateLimiter a = limiter(redis.template(), new SimpleMeterRegistry(), 1);
+        RateLimiter b = limiter(redis.template(), registryB, 1);
+
+        assertThat(a.tryAcquireReactive(RateLimiter.Scope.LOGIN_IP, IP).block()).isZero();
+        assertThat(b.tryAcquireReactive(RateLimiter.Scope.LOGIN_IP, IP).block()).isPositive();
+        assertThat(count(registryB, "login-ip", "rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void redisFailureAllowsTheRequest() {
+        // 아무것도 듣지 않는 포트 -> 연결 실패
+        LettuceConnectionFactory unreachable = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 1));
+        unreachable.afterPropertiesSet();
+        unreachable.start();
+        try {
+            MeterRegistry registry = new SimpleMeterRegistry();
+            RateLimiter limiter = limiter(new StringRedisTemplate(unreachable), registry, 5);
+
+            assertThat(limiter.tryAcquire(RateLimiter.Scope.LOGIN_IP, IP)).isZero();
+            assertThat(count(registry, "login-ip", "error")).isEqualTo(1);
+        } finally {
+            unreachable.destroy();
+        }
+    }
+
+    private RateLimiter limiter(StringRedisTemplate template, MeterRegistry registry, int permits) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("reactiveStringRedisTemplate", redis.reactiveTemplate());
+        return new RateLimiter(template, beanFactory.getBeanProvider(ReactiveStringRedisTemplate.class), registry,
+                true, Duration.ofMinutes(1), permits, permits, permits, 1_000);
+    }
+
+    private static double count(MeterRegistry registry, String scope, String result) {
+        return registry.get("rate.limit.requests").tag("scope", scope).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.spring_boot_jwt_boilerplate.controller;
+
+import com.example.spring_boot_jwt_boilerplate.config.jwk.JwtKeyRing;
+import com.example.spring_boot_jwt_boilerplate.local.LocalRedis;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwksControllerTest {
+
+    private LocalRedis redis;
+    private JwtKeyRing ring;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = LocalRedis.start();
+        ring = new JwtKeyRing(redis.template(), new ObjectMapper(), Duration.ofDays(1),
+                Duration.ofSeconds(60), Duration.ofMinutes(5), Duration.ofMinutes(1), 3_600_000L);
+        ring.init();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        redis.close();
+    }
+
+    @Test
+    void servesPublicKeysWithCacheHeaders() throws Exception {
+        ResponseEntity<byte[]> response = controller(ring).jwks(null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ring.jwksETag());
+        assertThat(response.getHeaders().getCacheControl())
+                .contains("max-age=300", "public", "stale-while-revalidate=60");
+
+        JsonNode keys = new ObjectMapper().readTree(response.getBody()).get("keys");
+        assertThat(keys).hasSize(1);
+        JsonNode key = keys.get(0);
+        assertThat(key.get("kid").asText()).isEqualTo(ring.signingKey().kid());
+        assertThat(key.get("kty").asText()).isEqualTo("EC");
+        assertThat(key.get("crv").asText()).isEqualTo("P-256");
+        assertThat(key.get("alg").asText()).isEqualTo("ES256");
+        assertThat(key.has("d")).isFalse(); // 개인키는 공개하지 않음
+        assertThat(Base64.getUrlDecoder().decode(key.get("x").asText())).hasSize(32);
+        assertThat(Base64.getUrlDecoder().decode(key.get("y").asText())).hasSize(32);
+    }
+
+    @Test
+    void matchingETagReturnsNotModified() {
+        ResponseEntity<byte[]> response = controller(ring).jwks(ring.jwksETag());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo(ring.jwksETag());
+    }
+
+    @Test
+    void hs256ModeServesEmptyKeySet() {
+        ResponseEntity<byte[]> response = controller(null).jwks(null);
+
+        assertThat(new String(response.getBody())).isEqualTo("{\"keys\":[]}");
+    }
+
+    private static JwksController controller(JwtKeyRing ring) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        if (ring != null) {
+            beanFactory.addBean("jwtKeyRing", ring);
+        }
+        return new JwksController(beanFactory.getBeanProvider(JwtKeyRing.class),
+                Duration.ofMinutes(5), Duration.ofMinutes(1));
+    }
+}
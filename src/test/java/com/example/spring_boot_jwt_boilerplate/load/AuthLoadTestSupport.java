@@ -0,0 +1,86 @@
+package com.example.spring_boot_jwt_boilerplate.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /api/auth/login 과 인증이 필요한 /api/auth/test 동시 호출 부하 테스트
+ * 실행: ./gradlew loadTest (일반 test 태스크에서는 제외)
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = "rate-limit.enabled=false") // 같은 IP / 이메일로 반복 로그인하므로 한도 해제
+abstract class AuthLoadTestSupport {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 200);
+    private static final int LOGIN_REQUESTS = Integer.getInteger("load.login-requests", 2_000);
+    private static final int AUTHENTICATED_REQUESTS = Integer.getInteger("load.authenticated-requests", 20_000);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(java.util.concurrent.Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    protected abstract String mode();
+
+    @Test
+    void concurrentLoginAndAuthenticatedCalls() throws Exception {
+        String suffix = UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        String email = "load-" + suffix + "@test.com";
+        String password = "password1234";
+        String loginBody = "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+
+        int signupStatus = post("/api/auth/signup",
+                "{\"email\":\"" + email + "\",\"password\":\"" + password + "\",\"nickname\":\"lt" + suffix + "\"}")
+                .statusCode();
+        assertThat(signupStatus).isEqualTo(200);
+
+        String accessToken = extractAccessToken(post("/api/auth/login", loginBody).body());
+
+        LoadRunner.LoadReport login = LoadRunner.run(mode() + " POST /login", CONCURRENCY, LOGIN_REQUESTS,
+                () -> post("/api/auth/login", loginBody).statusCode());
+
+        LoadRunner.LoadReport authenticated = LoadRunner.run(mode() + " GET /test", CONCURRENCY, AUTHENTICATED_REQUESTS,
+                () -> httpClient.send(HttpRequest.newBuilder(uri("/api/auth/test"))
+                                .header("Authorization", "Bearer " + accessToken)
+                                .GET()
+                                .build(),
+                        HttpResponse.BodyHandlers.discarding()).statusCode());
+
+        System.out.println(login);
+        System.out.println(authenticated);
+
+        assertThat(login.requests() - login.errors()).isPositive();
+        assertThat(authenticated.errors()).isZero();
+    }
+
+    private HttpResponse<String> post(String path, String json) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(uri(path))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(json))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String extractAccessToken(String body) {
+        int start = body.indexOf("\"accessToken\":\"") + "\"accessToken\":\"".length();
+        return body.substring(start, body.indexOf('"', start));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.spring_boot_jwt_boilerplate.load;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 고정 동시성으로 요청을 반복 실행하고 처리량/지연 백분위를 집계하는 부하 생성기
+ * 요청 작업은 HTTP 상태 코드를 반환해야 합니다. (2xx 외에는 에러로 집계)
+ */
+public final class LoadRunner {
+
+    private LoadRunner() {
+    }
+
+    public static LoadReport run(String name, int concurrency, int totalRequests, Callable<Integer> request)
+            throws InterruptedException {
+        long[] latencies = new long[totalRequests];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore permits = new Semaphore(concurrency);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < totalRequests; i++) {
+                permits.acquire();
+                int index = i;
+                executor.submit(() -> {
+                    long begin = System.nanoTime();
+                    try {
+                        int status = request.call();
+                        if (status < 200 || status >= 300) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - begin;
+                        permits.release();
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new LoadReport(name, concurrency, totalRequests, errors.get(), elapsed, latencies);
+    }
+
+    public record LoadReport(String name, int concurrency, int requests, int errors, long elapsedNanos,
+                             long[] sortedLatencies) {
+
+        public double throughputPerSecond() {
+            return requests / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        public double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+            long nanos = sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))];
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "%-28s concurrency=%-4d requests=%-6d errors=%-5d throughput=%9.1f req/s  p50=%7.2fms  p95=%7.2fms  p99=%7.2fms  max=%7.2fms",
+                    name, concurrency, requests, errors, throughputPerSecond(),
+                    percentileMillis(50), percentileMillis(95), percentileMillis(99), percentileMillis(100));
+        }
+    }
+}
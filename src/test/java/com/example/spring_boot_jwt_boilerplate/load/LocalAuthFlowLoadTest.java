@@ -0,0 +1,127 @@
+package com.example.spring_boot_jwt_boilerplate.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 외부 MySQL / Redis 없이 (local 프로필) 인증 전체 흐름 부하 측정
+ * signup -> login -> reissue(라운드별 사용자당 1회) -> 인증 API 호출 순서로 실행하고 단계별 처리량 / 지연 백분위 출력
+ * 실행: ./gradlew loadTest --tests '*LocalAuthFlowLoadTest' [-Dload.users=500 -Dload.reissue-rounds=3 -Dload.concurrency=64]
+ */
+@Tag("load")
+@ActiveProfiles("local")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LocalAuthFlowLoadTest {
+
+    private static final int USERS = Integer.getInteger("load.users", 500);
+    private static final int REISSUE_ROUNDS = Integer.getInteger("load.reissue-rounds", 3);
+    private static final int AUTHENTICATED_REQUESTS = Integer.getInteger("load.authenticated-requests", 20_000);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+    private static final String PASSWORD = "password1234";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void signupLoginReissueAndAuthenticatedCalls() throws Exception {
+        String prefix = UUID.randomUUID().toString().replace("-", "").substring(0, 6);
+        AtomicReferenceArray<String> accessTokens = new AtomicReferenceArray<>(USERS);
+        AtomicReferenceArray<String> refreshTokens = new AtomicReferenceArray<>(USERS);
+        List<LoadRunner.LoadReport> reports = new ArrayList<>();
+
+        AtomicInteger signedUp = new AtomicInteger();
+        reports.add(LoadRunner.run("POST /signup", CONCURRENCY, USERS, () -> {
+            int user = signedUp.getAndIncrement();
+            return post("/api/auth/signup", "{\"email\":\"" + email(prefix, user) + "\",\"password\":\"" + PASSWORD
+                    + "\",\"nickname\":\"" + prefix + Integer.toString(user, 36) + "\"}", null).statusCode();
+        }));
+
+        AtomicInteger loggedIn = new AtomicInteger();
+        reports.add(LoadRunner.run("POST /login", CONCURRENCY, USERS, () -> {
+            int user = loggedIn.getAndIncrement();
+            HttpResponse<String> response = post("/api/auth/login",
+                    "{\"email\":\"" + email(prefix, user) + "\",\"password\":\"" + PASSWORD + "\"}", null);
+            store(user, response, accessTokens, refreshTokens);
+            return response.statusCode();
+        }));
+
+        // 같은 사용자의 재발급이 동시에 일어나면 재사용으로 감지되므로 라운드마다 사용자당 1회
+        for (int round = 1; round <= REISSUE_ROUNDS; round++) {
+            AtomicInteger reissued = new AtomicInteger();
+            reports.add(LoadRunner.run("POST /reissue #" + round, CONCURRENCY, USERS, () -> {
+                int user = reissued.getAndIncrement();
+                HttpResponse<String> response = post("/api/auth/reissue", "",
+                        "refreshToken=" + refreshTokens.get(user));
+                store(user, response, accessTokens, refreshTokens);
+                return response.statusCode();
+            }));
+        }
+
+        AtomicInteger called = new AtomicInteger();
+        reports.add(LoadRunner.run("GET /test", CONCURRENCY, AUTHENTICATED_REQUESTS, () ->
+                httpClient.send(HttpRequest.newBuilder(uri("/api/auth/test"))
+                                .header("Authorization", "Bearer " + accessTokens.get(called.getAndIncrement() % USERS))
+                                .GET()
+                                .build(),
+                        HttpResponse.BodyHandlers.discarding()).statusCode()));
+
+        reports.forEach(System.out::println);
+        for (LoadRunner.LoadReport report : reports) {
+            assertThat(report.errors()).as(report.name()).isZero();
+        }
+    }
+
+    private HttpResponse<String> post(String path, String json, String cookie) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (cookie != null) {
+            request.header("Cookie", cookie);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void store(int user, HttpResponse<String> response,
+                              AtomicReferenceArray<String> accessTokens, AtomicReferenceArray<String> refreshTokens) {
+        if (response.statusCode() != 200) {
+            return;
+        }
+        String body = response.body();
+        int start = body.indexOf("\"accessToken\":\"") + "\"accessToken\":\"".length();
+        accessTokens.set(user, body.substring(start, body.indexOf('"', start)));
+
+        response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith("refreshToken="))
+                .findFirst()
+                .ifPresent(cookie -> refreshTokens.set(user,
+                        cookie.substring("refreshToken=".length(), cookie.indexOf(';'))));
+    }
+
+    private static String email(String prefix, int user) {
+        return "flow-" + prefix + "-" + user + "@test.com";
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
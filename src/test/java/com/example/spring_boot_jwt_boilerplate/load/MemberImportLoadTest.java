@@ -0,0 +1,87 @@
+package com.example.spring_boot_jwt_boilerplate.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * POST /api/admin/members/import 처리량 (rows/s) 측정
+ * BCrypt cost 를 낮춰 해시가 아닌 스트리밍 + 배치 INSERT 경로의 처리량을 봅니다.
+ * 실행: ./gradlew loadTest --tests '*MemberImportLoadTest' -Dload.import-rows=50000
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = "password.hash.target-cost=4")
+class MemberImportLoadTest {
+
+    private static final int ROWS = Integer.getInteger("load.import-rows", 20_000);
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void csvImportThroughput() throws Exception {
+        String adminToken = login("admin@test.com", "admin1234");
+
+        String prefix = UUID.randomUUID().toString().replace("-", "").substring(0, 6);
+        StringBuilder csv = new StringBuilder("email,password,nickname\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append("imp-").append(prefix).append('-').append(i).append("@test.com,")
+                    .append("password1234,")
+                    .append(prefix).append(Integer.toString(i, 36)).append('\n');
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri("/api/admin/members/import"))
+                        .header("Authorization", "Bearer " + adminToken)
+                        .header("Content-Type", "text/csv")
+                        .POST(HttpRequest.BodyPublishers.ofString(csv.toString()))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        System.out.printf("[import] rows=%d, %dms, %.0f rows/s%n%s%n",
+                ROWS, elapsedMillis, ROWS * 1000.0 / Math.max(1, elapsedMillis), response.body());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("\"imported\":" + ROWS);
+    }
+
+    // 관리자 계정은 기동 완료 후 백그라운드에서 생성되므로 잠시 재시도
+    private String login(String email, String password) throws Exception {
+        HttpResponse<String> response;
+        int attempts = 0;
+        do {
+            if (attempts++ > 0) {
+                Thread.sleep(100);
+            }
+            response = httpClient.send(HttpRequest.newBuilder(uri("/api/auth/login"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(
+                                    "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+        } while (response.statusCode() != 200 && attempts < 50);
+
+        String body = response.body();
+        int start = body.indexOf("\"accessToken\":\"") + "\"accessToken\":\"".length();
+        return body.substring(start, body.indexOf('"', start));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
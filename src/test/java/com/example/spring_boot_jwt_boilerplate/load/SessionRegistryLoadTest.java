@@ -0,0 +1,129 @@
+package com.example.spring_boot_jwt_boilerplate.load;
+
+import com.example.spring_boot_jwt_boilerplate.repository.token.RefreshSession;
+import com.example.spring_boot_jwt_boilerplate.repository.token.RefreshTokenStore;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 활성 세션 100만 개 상태에서 Refresh Token 세션 저장소 성능 측정 (Redis 필요)
+ * 1. 세션 등록 (사용자당 load.sessions-per-user 개)
+ * 2. 서로 다른 세션의 rotate 처리량 - 전체 세션 수와 무관하게 O(1) 인지 확인
+ * 3. 이미 교체된 jti 재사용 -> 세션(family) 삭제 확인
+ * 4. 사용자별 세션 목록 조회
+ * 5. 세션당 Redis 메모리 (used_memory 차이)
+ * 실행: ./gradlew loadTest --tests '*SessionRegistryLoadTest' -Dload.sessions=1000000
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class SessionRegistryLoadTest {
+
+    private static final int SESSIONS = Integer.getInteger("load.sessions", 1_000_000);
+    private static final int SESSIONS_PER_USER = Integer.getInteger("load.sessions-per-user", 5);
+    private static final int ROTATIONS = Math.min(SESSIONS, Integer.getInteger("load.rotations", 100_000));
+    private static final int LOOKUPS = Integer.getInteger("load.lookups", 100_000);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 256);
+    private static final Duration TTL = Duration.ofHours(1);
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private String prefix;
+
+    @Test
+    void oneMillionActiveSessions() throws Exception {
+        prefix = UUID.randomUUID().toString().replace("-", "").substring(0, 6);
+        int users = (SESSIONS + SESSIONS_PER_USER - 1) / SESSIONS_PER_USER;
+        long memoryBefore = usedMemory();
+
+        try {
+            AtomicInteger created = new AtomicInteger();
+            LoadRunner.LoadReport create = LoadRunner.run("create " + SESSIONS + " sessions", CONCURRENCY, SESSIONS, () -> {
+                int i = created.getAndIncrement();
+                long now = System.currentTimeMillis();
+                refreshTokenStore.create(email(i / SESSIONS_PER_USER),
+                        new RefreshSession(sessionId(i), tokenId(i, 0), now, now, now + TTL.toMillis(), "load-test"),
+                        TTL);
+                return 200;
+            });
+            long bytesPerSession = (usedMemory() - memoryBefore) / SESSIONS;
+
+            // 서로 다른 세션만 교체 (같은 세션을 동시에 교체하면 재사용으로 감지되므로)
+            AtomicInteger rotated = new AtomicInteger();
+            LoadRunner.LoadReport rotate = LoadRunner.run("rotate", CONCURRENCY, ROTATIONS, () -> {
+                int i = (int) ((long) rotated.getAndIncrement() * SESSIONS / ROTATIONS);
+                RefreshTokenStore.RotationResult result = refreshTokenStore.rotate(
+                        email(i / SESSIONS_PER_USER), sessionId(i), tokenId(i, 0), tokenId(i, 1), TTL);
+                return result == RefreshTokenStore.RotationResult.ROTATED ? 200 : 409;
+            });
+
+            AtomicInteger looked = new AtomicInteger();
+            LoadRunner.LoadReport list = LoadRunner.run("find sessions", CONCURRENCY, LOOKUPS, () -> {
+                int user = (int) ((long) looked.getAndIncrement() * 7919 % users);
+                return refreshTokenStore.findSessions(email(user)).isEmpty() ? 404 : 200;
+            });
+
+            System.out.println(create);
+            System.out.println(rotate);
+            System.out.println(list);
+            System.out.printf("redis memory: %d bytes/session (%d sessions, %d users)%n",
+                    bytesPerSession, SESSIONS, users);
+
+            assertThat(create.errors()).isZero();
+            assertThat(rotate.errors()).isZero();
+            assertThat(list.errors()).isZero();
+
+            // 세션 0 은 위에서 교체됨 -> 이전 jti 재사용 시 family 삭제
+            assertThat(refreshTokenStore.rotate(email(0), sessionId(0), tokenId(0, 0), tokenId(0, 2), TTL))
+                    .isEqualTo(RefreshTokenStore.RotationResult.REUSED);
+            assertThat(refreshTokenStore.rotate(email(0), sessionId(0), tokenId(0, 1), tokenId(0, 2), TTL))
+                    .isEqualTo(RefreshTokenStore.RotationResult.NOT_FOUND);
+            assertThat(refreshTokenStore.findSessions(email(0)))
+                    .hasSize(Math.min(SESSIONS, SESSIONS_PER_USER) - 1);
+        } finally {
+            List<String> emails = new ArrayList<>(10_000);
+            for (int user = 0; user < users; user++) {
+                emails.add(email(user));
+                if (emails.size() == 10_000) {
+                    refreshTokenStore.revokeAll(emails);
+                    emails.clear();
+                }
+            }
+            refreshTokenStore.revokeAll(emails);
+        }
+    }
+
+    private String email(int user) {
+        return "sess-" + prefix + "-" + user + "@test.com";
+    }
+
+    private String sessionId(int i) {
+        return prefix + "-s" + i;
+    }
+
+    private static String tokenId(int i, int version) {
+        return "t" + i + "-" + version;
+    }
+
+    private long usedMemory() {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("memory"));
+        return info == null ? 0L : Long.parseLong(info.getProperty("used_memory", "0"));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.spring_boot_jwt_boilerplate.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 회원가입 처리량 + 유니크 인덱스 기반 중복 판정 검증 (local 프로필: H2 / 프로세스 내 Redis)
+ * 1. 서로 다른 회원 동시 가입 - 처리량 / 지연 백분위 (해시는 커넥션 없이, INSERT 1회)
+ * 2. 같은 닉네임 / 같은 이메일로 동시 가입 - 키마다 정확히 1건만 성공하고 나머지는 409
+ * 실행: ./gradlew loadTest --tests '*SignupLoadTest' [-Dload.signups=5000 -Dload.concurrency=64]
+ */
+@Tag("load")
+@ActiveProfiles("local")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class SignupLoadTest {
+
+    private static final int SIGNUPS = Integer.getInteger("load.signups", 2_000);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+    private static final int CONTESTED_KEYS = Integer.getInteger("load.contested-keys", 50);
+    private static final int RACERS = Integer.getInteger("load.racers", 8);
+    private static final String PASSWORD = "password1234";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void concurrentSignupThroughputAndDuplicateRaces() throws Exception {
+        String prefix = UUID.randomUUID().toString().replace("-", "").substring(0, 5);
+
+        AtomicInteger unique = new AtomicInteger();
+        LoadRunner.LoadReport uniqueReport = LoadRunner.run("POST /signup (unique)", CONCURRENCY, SIGNUPS, () -> {
+            int i = unique.getAndIncrement();
+            return signup("u-" + prefix + "-" + i + "@test.com", "u" + prefix + Integer.toString(i, 36));
+        });
+
+        // 같은 닉네임, 다른 이메일
+        AtomicInteger nicknameRace = new AtomicInteger();
+        AtomicIntegerArray nicknameWinners = new AtomicIntegerArray(CONTESTED_KEYS);
+        LoadRunner.LoadReport nicknameReport = LoadRunner.run("POST /signup (same nickname)", CONCURRENCY,
+                CONTESTED_KEYS * RACERS, () -> {
+                    int i = nicknameRace.getAndIncrement();
+                    int key = i % CONTESTED_KEYS;
+                    int status = signup("n-" + prefix + "-" + i + "@test.com", "n" + prefix + Integer.toString(key, 36));
+                    return tally(status, nicknameWinners, key);
+                });
+
+        // 같은 이메일, 다른 닉네임
+        AtomicInteger emailRace = new AtomicInteger();
+        AtomicIntegerArray emailWinners = new AtomicIntegerArray(CONTESTED_KEYS);
+        LoadRunner.LoadReport emailReport = LoadRunner.run("POST /signup (same email)", CONCURRENCY,
+                CONTESTED_KEYS * RACERS, () -> {
+                    int i = emailRace.getAndIncrement();
+                    int key = i % CONTESTED_KEYS;
+                    int status = signup("e-" + prefix + "-" + key + "@test.com", "e" + prefix + Integer.toString(i, 36));
+                    return tally(status, emailWinners, key);
+                });
+
+        System.out.println(uniqueReport);
+        System.out.println(nicknameReport);
+        System.out.println(emailReport);
+
+        assertThat(uniqueReport.errors()).isZero();
+        assertThat(nicknameReport.errors()).isZero();
+        assertThat(emailReport.errors()).isZero();
+        for (int key = 0; key < CONTESTED_KEYS; key++) {
+            assertThat(nicknameWinners.get(key)).as("nickname key %d", key).isEqualTo(1);
+            assertThat(emailWinners.get(key)).as("email key %d", key).isEqualTo(1);
+        }
+    }
+
+    // 200 은 키별 성공 수로 집계, 409(중복)는 기대한 결과이므로 오류로 세지 않음
+    private static int tally(int status, AtomicIntegerArray winners, int key) {
+        if (status == 200) {
+            winners.incrementAndGet(key);
+        }
+        return status == 409 ? 200 : status;
+    }
+
+    private int signup(String email, String nickname) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(uri("/api/auth/signup"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"" + email + "\",\"password\":\""
+                                + PASSWORD + "\",\"nickname\":\"" + nickname + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.spring_boot_jwt_boilerplate.load;
+
+import com.example.spring_boot_jwt_boilerplate.LocalSpringBootJwtBoilerplateApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 콜드 스타트 측정: 새 JVM 프로세스 시작부터 첫 인증 요청 성공까지의 시간
+ * 1. firstResponse    : 첫 HTTP 응답 (/actuator/health)
+ * 2. firstAuthenticated: signup -> login -> GET /api/auth/test 가 200 을 돌려준 시점
+ * 기본은 테스트 클래스패스 + local 프로필(H2 / 프로세스 내 Redis), load.startup.jar 지정 시 java -jar 로 실행 (환경 변수 필요)
+ * 실행:
+ *   ./gradlew loadTest --tests '*StartupTimeLoadTest' [-Dload.startup.profiles=faststart -Dload.startup.runs=5]
+ *   ./gradlew loadTest --tests '*StartupTimeLoadTest' -Dload.startup.jar=build/cds/app.jar \
+ *       -Dload.startup.profiles=prod,faststart -Dload.startup.jvm-args="-XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true"
+ */
+@Tag("load")
+class StartupTimeLoadTest {
+
+    private static final int RUNS = Integer.getInteger("load.startup.runs", 5);
+    private static final String PROFILES = System.getProperty("load.startup.profiles", "");
+    private static final String JAR = System.getProperty("load.startup.jar", "");
+    private static final String JVM_ARGS = System.getProperty("load.startup.jvm-args", "");
+    private static final Duration TIMEOUT = Duration.ofSeconds(Integer.getInteger("load.startup.timeout-seconds", 120));
+    private static final String PASSWORD = "password1234";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    @Test
+    void timeToFirstAuthenticatedRequest() throws Exception {
+        long[] firstResponse = new long[RUNS];
+        long[] firstAuthenticated = new long[RUNS];
+
+        for (int run = 0; run < RUNS; run++) {
+            int port = freePort();
+            File log = File.createTempFile("startup-" + run + "-", ".log");
+            long startedAt = System.nanoTime();
+            Process process = new ProcessBuilder(command(port))
+                    .directory(JAR.isEmpty() ? null : Path.of(JAR).toAbsolutePath().getParent().toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(log)
+                    .start();
+            try {
+                firstResponse[run] = awaitFirstResponse(port, startedAt, process, log);
+                firstAuthenticated[run] = awaitAuthenticatedRequest(port, startedAt, run, process, log);
+            } finally {
+                process.destroy();
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            }
+            System.out.printf("run %d: firstResponse=%dms firstAuthenticated=%dms%n",
+                    run + 1, firstResponse[run], firstAuthenticated[run]);
+        }
+
+        System.out.println(summary("firstResponse", firstResponse));
+        System.out.println(summary("firstAuthenticated", firstAuthenticated));
+    }
+
+    private List<String> command(int port) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (!JVM_ARGS.isBlank()) {
+            command.addAll(Arrays.asList(JVM_ARGS.trim().split("\\s+")));
+        }
+        if (JAR.isEmpty()) {
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(LocalSpringBootJwtBoilerplateApplication.class.getName());
+            // H2 메모리 DB 는 매번 비어 있으므로 faststart 의 validate 대신 스키마 생성
+            command.add("--spring.jpa.hibernate.ddl-auto=create-drop");
+        } else {
+            command.add("-jar");
+            command.add(Path.of(JAR).getFileName().toString());
+        }
+        command.add("--server.port=" + port);
+        if (!PROFILES.isBlank()) {
+            command.add("--spring.profiles.active=" + PROFILES);
+        }
+        return command;
+    }
+
+    private long awaitFirstResponse(int port, long startedAt, Process process, File log) throws Exception {
+        while (true) {
+            checkAlive(startedAt, process, log);
+            try {
+                send(HttpRequest.newBuilder(uri(port, "/actuator/health")).GET().build());
+                return elapsedMillis(startedAt);
+            } catch (IOException e) {
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private long awaitAuthenticatedRequest(int port, long startedAt, int run, Process process, File log)
+            throws Exception {
+        String email = "startup-" + run + "-" + System.nanoTime() + "@test.com";
+        boolean signedUp = false;
+        while (true) {
+            checkAlive(startedAt, process, log);
+            try {
+                if (!signedUp) {
+                    signedUp = post(port, "/api/auth/signup", "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD
+                            + "\",\"nickname\":\"st" + Integer.toString(ThreadLocalRandom.current().nextInt(1 << 30), 36) + "\"}").statusCode() == 200;
+                }
+
+                HttpResponse<String> login = signedUp ? post(port, "/api/auth/login",
+                        "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}") : null;
+                if (login != null && login.statusCode() == 200) {
+                    String body = login.body();
+                    int start = body.indexOf("\"accessToken\":\"") + "\"accessToken\":\"".length();
+                    String accessToken = body.substring(start, body.indexOf('"', start));
+
+                    HttpResponse<String> test = send(HttpRequest.newBuilder(uri(port, "/api/auth/test"))
+                            .header("Authorization", "Bearer " + accessToken)
+                            .GET()
+                            .build());
+                    if (test.statusCode() == 200) {
+                        return elapsedMillis(startedAt);
+                    }
+                }
+            } catch (IOException e) {
+                // 아직 준비되지 않음
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private HttpResponse<String> post(int port, String path, String json) throws Exception {
+        return send(HttpRequest.newBuilder(uri(port, path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void checkAlive(long startedAt, Process process, File log) {
+        assertThat(process.isAlive()).as("기동 중 프로세스 종료, 로그: %s", log).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).as("기동 시간 초과, 로그: %s", log)
+                .isLessThan(TIMEOUT);
+    }
+
+    private static String summary(String name, long[] millis) {
+        long[] sorted = millis.clone();
+        Arrays.sort(sorted);
+        return String.format("%-20s runs=%-3d min=%6dms  median=%6dms  max=%6dms  (profiles=%s, jvm-args=%s)",
+                name, sorted.length, sorted[0], sorted[sorted.length / 2], sorted[sorted.length - 1],
+                PROFILES.isBlank() ? "-" : PROFILES, JVM_ARGS.isBlank() ? "-" : JVM_ARGS);
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static URI uri(int port, String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.spring_boot_jwt_boilerplate.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadAuthLoadTest extends AuthLoadTestSupport {
+
+    @Override
+    protected String mode() {
+        return "[virtual]";
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.spring_boot_jwt_boilerplate.local;
+
+import com.github.fppt.jedismock.RedisServer;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 단위 테스트용 프로세스 내 Redis (jedis-mock) + 운영과 같은 Lettuce 클라이언트
+ * Lua 스크립트 / Pub/Sub 을 Spring 컨텍스트 없이 실제 명령으로 검증할 때 사용
+ */
+public final class LocalRedis implements AutoCloseable {
+
+    private final RedisServer server;
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate template;
+    private final ReactiveStringRedisTemplate reactiveTemplate;
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    private LocalRedis(RedisServer server) {
+        this.server = server;
+        this.connectionFactory = connectionFactory(server);
+        this.connectionFactory.afterPropertiesSet();
+        this.connectionFactory.start();
+        this.template = new StringRedisTemplate(connectionFactory);
+        this.reactiveTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+    }
+
+    public static LocalRedis start() throws IOException {
+        return new LocalRedis(RedisServer.newRedisServer().start());
+    }
+
+    /**
+     * jedis-mock 은 RESP3(HELLO) 를 지원하지 않으므로 RESP2 로 고정
+     */
+    public static LettuceConnectionFactory connectionFactory(RedisServer server) {
+        RedisStandaloneConfiguration standalone = new RedisStandaloneConfiguration(server.getHost(), server.getBindPort());
+        LettuceClientConfiguration client = LettuceClientConfiguration.builder()
+                .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+                .build();
+        return new LettuceConnectionFactory(standalone, client);
+    }
+
+    public StringRedisTemplate template() {
+        return template;
+    }
+
+    public ReactiveStringRedisTemplate reactiveTemplate() {
+        return reactiveTemplate;
+    }
+
+    /**
+     * 채널을 구독하는 컨테이너를 시작 (인스턴스 하나의 RedisConfig 구독에 해당)
+     * 구독이 등록될 때까지 기다린 뒤 반환
+     */
+    public RedisMessageListenerContainer subscribe(MessageListener listener, String channel) throws Exception {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(listener, new ChannelTopic(channel));
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!container.isListening() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return container;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (RedisMessageListenerContainer container : containers) {
+            try {
+                container.destroy();
+            } catch (Exception ignored) {
+                // 종료 중 구독 해제 실패는 무시
+            }
+        }
+        connectionFactory.destroy();
+        server.stop();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.spring_boot_jwt_boilerplate.local;
+
+import com.github.fppt.jedismock.RedisServer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.io.IOException;
+
+/**
+ * local 프로필 전용: 외부 Redis 대신 프로세스 안에서 Redis 호환 서버(jedis-mock) 실행
+ * 1. 빈 포트로 기동하고, 그 포트를 쓰는 LettuceConnectionFactory 를 직접 등록 (Redis 자동 설정은 물러남)
+ * 2. Lua 스크립트 / Pub/Sub 까지 같은 코드 경로(Lettuce)로 실행되므로 세션 저장소, 요청 한도, 토큰 폐기 전파가 그대로 동작
+ * 3. jedis-mock 은 RESP3(HELLO) 를 지원하지 않으므로 RESP2 로 고정
+ * 테스트 클래스패스에서만 스캔되므로 운영 빌드에는 포함되지 않음
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("local")
+public class LocalStandInConfig {
+
+    @Bean(destroyMethod = "stop")
+    public RedisServer localRedisServer() throws IOException {
+        return RedisServer.newRedisServer().start();
+    }
+
+    @Bean
+    public LettuceConnectionFactory redisConnectionFactory(RedisServer localRedisServer) {
+        return LocalRedis.connectionFactory(localRedisServer);
+    }
+}
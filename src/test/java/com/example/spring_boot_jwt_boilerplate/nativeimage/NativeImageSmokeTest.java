@@ -0,0 +1,185 @@
+package com.example.spring_boot_jwt_boilerplate.nativeimage;
+
+import com.github.fppt.jedismock.RedisServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 네이티브 실행 파일 스모크 테스트 (./gradlew nativeSmokeTest)
+ * 1. 테스트 JVM 에서 Redis 호환 서버(jedis-mock) 기동, DB 는 이미지에 포함된 H2 메모리 DB
+ * 2. 빌드된 실행 파일을 운영과 같은 프로필(prod,faststart)로 실행하고 스키마 / 비용 설정만 인자로 덮어씀
+ * 3. signup -> login -> 인증 호출 -> reissue -> 새 토큰으로 인증 호출 -> 교체된 RT 재사용 거절
+ * 4. 기동 시간(첫 응답까지)과 RSS 출력
+ */
+@Tag("native")
+class NativeImageSmokeTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+    private static final String EMAIL = "native@test.com";
+    private static final String PASSWORD = "password1234";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    private RedisServer redisServer;
+    private Process process;
+    private File log;
+    private int port;
+
+    @BeforeEach
+    void startBinary() throws Exception {
+        Path binary = Path.of(System.getProperty("native.binary", "build/native/nativeCompile/spring-boot-jwt-boilerplate"));
+        assertThat(binary).as("./gradlew nativeSmokeTest 로 실행하면 먼저 nativeCompile 이 수행됩니다.").isExecutable();
+
+        redisServer = RedisServer.newRedisServer().start();
+        port = freePort();
+        log = File.createTempFile("native-smoke-", ".log");
+
+        process = new ProcessBuilder(List.of(
+                binary.toString(),
+                "--server.port=" + port,
+                "--spring.profiles.active=prod,faststart",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.url=jdbc:h2:mem:native;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.hikari.minimum-idle=2",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.data.redis.host=" + redisServer.getHost(),
+                "--spring.data.redis.port=" + redisServer.getBindPort(),
+                "--spring.data.redis.password=",
+                "--redis.protocol=resp2",
+                "--jwt.secret=native-smoke-secret-key-that-is-long-enough-for-hs256",
+                "--password.hash.target-cost=4",
+                "--rate-limit.enabled=false"))
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+    }
+
+    @AfterEach
+    void stopBinary() throws Exception {
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    void loginReissueAndAuthenticatedCalls() throws Exception {
+        long startupMillis = awaitFirstResponse();
+
+        assertThat(post("/api/auth/signup", "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD
+                + "\",\"nickname\":\"native\"}", null).statusCode()).isEqualTo(200);
+
+        HttpResponse<String> login = post("/api/auth/login",
+                "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}", null);
+        assertThat(login.statusCode()).as(login.body()).isEqualTo(200);
+        assertThat(authenticatedCall(accessToken(login))).isEqualTo(200);
+
+        String refreshToken = refreshToken(login);
+        HttpResponse<String> reissue = post("/api/auth/reissue", "", "refreshToken=" + refreshToken);
+        assertThat(reissue.statusCode()).as(reissue.body()).isEqualTo(200);
+        assertThat(authenticatedCall(accessToken(reissue))).isEqualTo(200);
+
+        // 이미 교체된 Refresh Token 재사용 -> 세션 폐기
+        assertThat(post("/api/auth/reissue", "", "refreshToken=" + refreshToken).statusCode()).isEqualTo(401);
+
+        System.out.printf("[native] startup=%dms rss=%s%n", startupMillis, residentSetSize(process.pid()));
+    }
+
+    private long awaitFirstResponse() throws Exception {
+        long startedAt = System.nanoTime();
+        while (true) {
+            assertThat(process.isAlive()).as("실행 파일이 기동 중 종료됨, 로그: %s", log).isTrue();
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).as("기동 시간 초과, 로그: %s", log)
+                    .isLessThan(STARTUP_TIMEOUT);
+            try {
+                httpClient.send(HttpRequest.newBuilder(uri("/actuator/health")).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            } catch (IOException e) {
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private int authenticatedCall(String accessToken) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(uri("/api/auth/test"))
+                        .header("Authorization", "Bearer " + accessToken)
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpResponse<String> post(String path, String json, String cookie) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (cookie != null) {
+            request.header("Cookie", cookie);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String accessToken(HttpResponse<String> response) {
+        String body = response.body();
+        int start = body.indexOf("\"accessToken\":\"") + "\"accessToken\":\"".length();
+        return body.substring(start, body.indexOf('"', start));
+    }
+
+    private static String refreshToken(HttpResponse<String> response) {
+        String cookie = response.headers().allValues("Set-Cookie").stream()
+                .filter(value -> value.startsWith("refreshToken="))
+                .findFirst()
+                .orElseThrow();
+        return cookie.substring("refreshToken=".length(), cookie.indexOf(';'));
+    }
+
+    // Linux 전용 (/proc), 그 외 환경은 n/a
+    private static String residentSetSize(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return "n/a";
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.substring("VmRSS:".length()).trim())
+                .findFirst()
+                .orElse("n/a");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.spring_boot_jwt_boilerplate.repository;
+
+import com.example.spring_boot_jwt_boilerplate.config.cache.HibernateCacheConfig;
+import com.example.spring_boot_jwt_boilerplate.domain.member.Member;
+import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 각 조회가 별도 세션(트랜잭션)에서 실행되도록 테스트 트랜잭션을 끄고,
+ * Hibernate Statistics 로 실제 실행된 SQL 수를 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(HibernateCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberRepositoryCacheTest {
+
+    private static final String EMAIL = "service-account@test.com";
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        memberRepository.save(Member.builder()
+                .email(EMAIL)
+                .password("{bcrypt}hash")
+                .nickname("service")
+                .role(Role.USER)
+                .build());
+    }
+
+    @Test
+    void repeatedLookupsIssueNoSql() {
+        assertThat(memberRepository.findByEmail(EMAIL)).isPresent(); // 캐시 적재
+        statistics.clear();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(memberRepository.findByEmail(EMAIL)).isPresent();
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThanOrEqualTo(10);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    void nicknameUpdateIsVisibleToNextLookup() {
+        memberRepository.findByEmail(EMAIL);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                memberRepository.findByEmail(EMAIL).orElseThrow().updateNickname("renamed"));
+
+        statistics.clear();
+        assertThat(memberRepository.findByEmail(EMAIL))
+                .get()
+                .extracting(Member::getNickname)
+                .isEqualTo("renamed");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void newSignupIsFoundAfterMissedLookup() {
+        String email = "new-member@test.com";
+        assertThat(memberRepository.findByEmail(email)).isEmpty();
+
+        memberRepository.save(Member.builder()
+                .email(email)
+                .password("{bcrypt}hash")
+                .nickname("newbie")
+                .role(Role.USER)
+                .build());
+
+        assertThat(memberRepository.findByEmail(email)).isPresent();
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.spring_boot_jwt_boilerplate.repository.token;
+
+import com.example.spring_boot_jwt_boilerplate.local.LocalRedis;
+import com.example.spring_boot_jwt_boilerplate.repository.token.RefreshTokenStore.RotationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CREATE / ROTATE Lua 스크립트를 RedisRefreshTokenStore 로 실행 (jedis-mock)
+ * 같은 시나리오를 InMemoryRefreshTokenStore 에도 실행하여 두 구현의 결과가 같은지 확인
+ */
+class RefreshTokenScriptsTest {
+
+    private static final String EMAIL = "user@test.com";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private LocalRedis redis;
+    private RedisRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = LocalRedis.start();
+        store = new RedisRefreshTokenStore(redis.template(), new SimpleMeterRegistry(), 2);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        redis.close();
+    }
+
+    @Test
+    void matchingJtiIsRotated() {
+        store.create(EMAIL, session("s1", "jti-1", 0), TTL);
+
+        assertThat(store.rotate(EMAIL, "s1", "jti-1", "jti-2", TTL)).isEqualTo(RotationResult.ROTATED);
+        assertThat(store.findSessions(EMAIL)).singleElement()
+                .satisfies(session -> assertThat(session.tokenId()).isEqualTo("jti-2"));
+    }
+
+    @Test
+    void staleJtiIsReuseAndDeletesTheSession() {
+        store.create(EMAIL, session("s1", "jti-1", 0), TTL);
+        store.create(EMAIL, session("s2", "jti-a", 1), TTL);
+        store.rotate(EMAIL, "s1", "jti-1", "jti-2", TTL);
+
+        assertThat(store.rotate(EMAIL, "s1", "jti-1", "jti-3", TTL)).isEqualTo(RotationResult.REUSED);
+        assertThat(redis.template().opsForHash().hasKey(RefreshTokenScripts.key(EMAIL), "s1")).isFalse();
+        // 다른 기기의 세션은 유지
+        assertThat(store.findSessions(EMAIL)).extracting(RefreshSession::sessionId).containsExactly("s2");
+    }
+
+    @Test
+    void expiredSessionIsNotFound() {
+        long now = System.currentTimeMillis();
+        store.create(EMAIL, new RefreshSession("s1", "jti-1", now - 2_000, now - 2_000, now - 1_000, null), TTL);
+
+        assertThat(store.rotate(EMAIL, "s1", "jti-1", "jti-2", TTL)).isEqualTo(RotationResult.NOT_FOUND);
+        assertThat(redis.template().opsForHash().hasKey(RefreshTokenScripts.key(EMAIL), "s1")).isFalse();
+        assertThat(store.rotate(EMAIL, "missing", "jti-1", "jti-2", TTL)).isEqualTo(RotationResult.NOT_FOUND);
+    }
+
+    @Test
+    void leastRecentlyUsedSessionIsEvictedAtTheLimit() {
+        store.create(EMAIL, session("s1", "jti-1", 0), TTL);
+        store.create(EMAIL, session("s2", "jti-2", 1), TTL);
+        store.create(EMAIL, session("s3", "jti-3", 2), TTL);
+
+        assertThat(store.findSessions(EMAIL)).extracting(RefreshSession::sessionId).containsExactly("s3", "s2");
+    }
+
+    @Test
+    void bulkLookupIsPipelined() {
+        store.create(EMAIL, session("s1", "jti-1", 0), TTL);
+        store.create("other@test.com", session("s2", "jti-2", 0), TTL);
+
+        Map<String, List<RefreshSession>> sessions = store.findSessions(List.of(EMAIL, "other@test.com", "none@test.com"));
+
+        assertThat(sessions).containsOnlyKeys(EMAIL, "other@test.com");
+        assertThat(sessions.get(EMAIL)).extracting(RefreshSession::tokenId).containsExactly("jti-1");
+    }
+
+    @Test
+    void redisAndInMemoryStoresAgree() {
+        assertThat(scenario(store)).isEqualTo(scenario(new InMemoryRefreshTokenStore(2)));
+    }
+
+    // 등록 / 교체 / 재사용 / 만료 / 최대 세션 초과를 차례로 실행하고 각 단계의 결과를 기록
+    private static List<Object> scenario(RefreshTokenStore target) {
+        long now = System.currentTimeMillis();
+        List<Object> steps = new ArrayList<>();
+
+        target.create(EMAIL, session("s1", "jti-1", 0), TTL);
+        steps.add(target.rotate(EMAIL, "s1", "jti-1", "jti-2", TTL));
+        steps.add(target.rotate(EMAIL, "s1", "jti-1", "jti-3", TTL));
+        steps.add(target.rotate(EMAIL, "s1", "jti-2", "jti-3", TTL));
+
+        target.create(EMAIL, new RefreshSession("s2", "jti-a", now - 2_000, now - 2_000, now - 1_000, null), TTL);
+        steps.add(target.rotate(EMAIL, "s2", "jti-a", "jti-b", TTL));
+
+        target.create(EMAIL, session("s3", "jti-x", 1), TTL);
+        target.create(EMAIL, session("s4", "jti-y", 2), TTL);
+        target.create(EMAIL, session("s5", "jti-z", 3), TTL);
+        steps.add(target.findSessions(EMAIL).stream().map(RefreshSession::sessionId).toList());
+        steps.add(target.revoke(EMAIL, "s5"));
+        steps.add(target.revoke(EMAIL, "s5"));
+        return steps;
+    }
+
+    // lastUsedAt 이 order 만큼 늦은 세션
+    private static RefreshSession session(String sessionId, String tokenId, int order) {
+        long now = System.currentTimeMillis();
+        return new RefreshSession(sessionId, tokenId, now, now + order, now + TTL.toMillis(), "device-" + sessionId);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.spring_boot_jwt_boilerplate.service;
+
+import com.example.spring_boot_jwt_boilerplate.config.JwtTokenProvider;
+import com.example.spring_boot_jwt_boilerplate.config.JwtTokenProviderFixture;
+import com.example.spring_boot_jwt_boilerplate.config.datasource.RecentWriteTracker;
+import com.example.spring_boot_jwt_boilerplate.config.datasource.ReplicaRoutingDataSource;
+import com.example.spring_boot_jwt_boilerplate.config.password.PasswordHashExecutor;
+import com.example.spring_boot_jwt_boilerplate.config.ratelimit.RateLimiter;
+import com.example.spring_boot_jwt_boilerplate.domain.member.Member;
+import com.example.spring_boot_jwt_boilerplate.domain.member.Role;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.LoginRequest;
+import com.example.spring_boot_jwt_boilerplate.dto.auth.LoginResponse;
+import com.example.spring_boot_jwt_boilerplate.exception.CustomException;
+import com.example.spring_boot_jwt_boilerplate.exception.ErrorCode;
+import com.example.spring_boot_jwt_boilerplate.repository.MemberRepository;
+import com.example.spring_boot_jwt_boilerplate.repository.token.InMemoryRefreshTokenStore;
+import com.example.spring_boot_jwt_boilerplate.repository.token.RefreshSession;
+import com.example.spring_boot_jwt_boilerplate.service.availability.MemberAvailabilityIndex;
+import com.example.spring_boot_jwt_boilerplate.service.availability.MemberAvailabilityService;
+import com.example.spring_boot_jwt_boilerplate.service.revocation.TokenRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로그인 / 재발급 / 재사용 감지 흐름을 InMemoryRefreshTokenStore 로 검증 (Redis / DB 없이)
+ * 회원 조회 / 해시 / 폐기 전파는 mock
+ */
+class AuthServiceTest {
+
+    private static final String EMAIL = "user@test.com";
+    private static final String PASSWORD = "password1!";
+
+    private final InMemoryRefreshTokenStore refreshTokenStore = new InMemoryRefreshTokenStore(10);
+    private final JwtTokenProvider jwtTokenProvider = JwtTokenProviderFixture.create(60_000L, 3_600_000L);
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final PasswordHashExecutor passwordHashExecutor = mock(PasswordHashExecutor.class);
+    private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        Member member = Member.builder().email(EMAIL).password("{bcrypt}hash").nickname("user").role(Role.USER).build();
+        ReflectionTestUtils.setField(member, "id", 1L);
+        when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(member));
+        when(passwordHashExecutor.matches(anyString(), anyString())).thenReturn(true);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        authService = new AuthService(memberRepository, mock(PasswordEncoder.class), passwordHashExecutor,
+                jwtTokenProvider, refreshTokenStore, mock(MemberAvailabilityIndex.class),
+                mock(MemberAvailabilityService.class), tokenRevocationService, mock(RateLimiter.class),
+                new SimpleMeterRegistry(),
+                new RecentWriteTracker(mock(ReplicaRoutingDataSource.class), transactionManager, Duration.ofSeconds(5), 100),
+                transactionManager);
+    }
+
+    @Test
+    void loginRegistersASessionAndReissueRotatesIt() {
+        String first = refreshCookie(login("phone"));
+        RefreshSession session = onlySession();
+
+        String second = refreshCookie(reissue(first));
+
+        RefreshSession rotated = onlySession();
+        assertThat(rotated.sessionId()).isEqualTo(session.sessionId());
+        assertThat(rotated.tokenId()).isNotEqualTo(session.tokenId());
+        assertThat(second).isNotEqualTo(first);
+    }
+
+    @Test
+    void reusedRefreshTokenRevokesOnlyThatSession() {
+        String phone = refreshCookie(login("phone"));
+        String laptop = refreshCookie(login("laptop"));
+        String phoneSessionId = jwtTokenProvider.verify(phone).getToken().getSessionId();
+
+        reissue(phone);
+        assertThatThrownBy(() -> reissue(phone))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN));
+
+        verify(tokenRevocationService).revokeSession(phoneSessionId);
+        verify(tokenRevocationService, never()).revokeUser(any());
+        assertThat(refreshTokenStore.findSessions(EMAIL)).extracting(RefreshSession::device).containsExactly("laptop");
+
+        // 다른 기기는 계속 재발급 가능
+        assertThat(reissue(laptop).getHeader(HttpHeaders.SET_COOKIE)).startsWith("refreshToken=");
+    }
+
+    @Test
+    void logoutEndsOnlyTheCurrentSession() {
+        LoginResponse phone = loginResponse("phone");
+        login("laptop");
+
+        authService.logout(jwtTokenProvider.verify(phone.getAccessToken()).getToken(), new MockHttpServletResponse());
+
+        assertThat(refreshTokenStore.findSessions(EMAIL)).extracting(RefreshSession::device).containsExactly("laptop");
+    }
+
+    private MockHttpServletResponse login(String device) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authService.login(loginRequest(), device, response);
+        return response;
+    }
+
+    private LoginResponse loginResponse(String device) {
+        return authService.login(loginRequest(), device, new MockHttpServletResponse());
+    }
+
+    private MockHttpServletResponse reissue(String refreshToken) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authService.reissue(refreshToken, response);
+        return response;
+    }
+
+    private RefreshSession onlySession() {
+        List<RefreshSession> sessions = refreshTokenStore.findSessions(EMAIL);
+        assertThat(sessions).hasSize(1);
+        return sessions.get(0);
+    }
+
+    private static LoginRequest loginRequest() {
+        LoginRequest request = new LoginRequest();
+        ReflectionTestUtils.setField(request, "email", EMAIL);
+        ReflectionTestUtils.setField(request, "password", PASSWORD);
+        return request;
+    }
+
+    private static String refreshCookie(MockHttpServletResponse response) {
+        String header = response.getHeader(HttpHeaders.SET_COOKIE);
+        return header.substring("refreshToken=".length(), header.indexOf(';'));
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.spring_boot_jwt_boilerplate.service.availability;
+
+import com.example.spring_boot_jwt_boilerplate.local.LocalRedis;
+import com.example.spring_boot_jwt_boilerplate.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemberAvailabilityIndexTest {
+
+    @Test
+    void bloomFilterHasNoFalseNegativesAndKeepsConfiguredFalsePositiveRate() {
+        BloomFilter filter = BloomFilter.create(100_000, 0.01);
+        IntStream.range(0, 100_000).forEach(i -> filter.put("member" + i + "@test.com"));
+
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(filter.mightContain("member" + i + "@test.com")).isTrue();
+        }
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("absent" + i + "@test.com"))
+                .count();
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+    }
+
+    @Test
+    void rebuildLoadsExistingMembersAndIgnoresCase() {
+        MemberRepository repository = mock(MemberRepository.class);
+        when(repository.streamAllIdentifiers()).thenReturn(Stream.of(identifiers("Admin@Test.com", "관리자")));
+
+        MemberAvailabilityIndex index = newIndex(repository);
+        assertThat(index.mightContainEmail("nobody@test.com")).isTrue(); // 재구성 전에는 항상 DB 로 위임
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.mightContainEmail("admin@test.com")).isTrue();
+        assertThat(index.mightContainNickname("관리자")).isTrue();
+        assertThat(index.mightContainEmail("nobody@test.com")).isFalse();
+    }
+
+    @Test
+    void concurrentSignupsAreNeverReportedAbsent() throws Exception {
+        MemberRepository repository = mock(MemberRepository.class);
+        when(repository.streamAllIdentifiers()).thenReturn(
+                IntStream.range(0, 50_000).mapToObj(i -> identifiers("existing" + i + "@test.com", "old" + i)));
+        MemberAvailabilityIndex index = newIndex(repository);
+
+        int writers = 8;
+        int signupsPerWriter = 5_000;
+        Queue<String> committed = new ConcurrentLinkedQueue<>();
+        AtomicInteger falseAbsent = new AtomicInteger();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            // 재구성과 회원가입이 동시에 진행
+            futures.add(executor.submit(() -> {
+                start.await();
+                index.rebuild();
+                return null;
+            }));
+
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < signupsPerWriter; i++) {
+                        String email = "new" + writer + "-" + i + "@test.com";
+                        index.record(email, "n" + writer + "x" + i);
+                        committed.add(email); // AuthService.signup 과 같이 record 이후 커밋
+                    }
+                    return null;
+                }));
+            }
+
+            for (int r = 0; r < 3; r++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (writing.get()) {
+                        for (String email : committed) {
+                            if (!index.mightContainEmail(email)) {
+                                falseAbsent.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (int i = 0; i <= writers; i++) {
+                futures.get(i).get(60, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(falseAbsent).hasValue(0);
+        assertThat(committed).hasSize(writers * signupsPerWriter)
+                .allMatch(index::mightContainEmail);
+        assertThat(index.mightContainEmail("existing49999@test.com")).isTrue();
+    }
+
+    @Test
+    void signupsOnOneInstanceReachTheOther() throws Exception {
+        MemberRepository repository = mock(MemberRepository.class);
+        when(repository.streamAllIdentifiers()).thenAnswer(invocation -> Stream.of(identifiers("admin@test.com", "관리자")));
+
+        try (LocalRedis redis = LocalRedis.start()) {
+            MemberAvailabilityIndex[] indexes = {newIndex(repository), newIndex(repository)};
+            MemberAvailabilityService[] instances = new MemberAvailabilityService[2];
+            for (int i = 0; i < 2; i++) {
+                instances[i] = new MemberAvailabilityService(redis.template(), indexes[i]);
+                redis.subscribe(instances[i], MemberAvailabilityService.CHANNEL);
+                indexes[i].rebuild();
+            }
+
+            int writersPerInstance = 4;
+            int signupsPerWriter = 500;
+            Queue<String> committed = new ConcurrentLinkedQueue<>();
+            ExecutorService executor = Executors.newFixedThreadPool(writersPerInstance * 2);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int w = 0; w < writersPerInstance * 2; w++) {
+                    int writer = w;
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < signupsPerWriter; i++) {
+                            String email = "pod" + writer + "-" + i + "@test.com";
+                            instances[writer % 2].record(email, "p" + writer + "x" + i);
+                            committed.add(email);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // Pub/Sub 은 비동기이므로 상대 인스턴스에는 잠시 후 반영
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (!allRecorded(committed, indexes) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+
+            assertThat(committed).hasSize(writersPerInstance * 2 * signupsPerWriter);
+            for (MemberAvailabilityIndex index : indexes) {
+                assertThat(committed).allMatch(index::mightContainEmail);
+                assertThat(index.mightContainNickname("p1x499")).isTrue();
+                assertThat(index.mightContainEmail("nobody@test.com")).isFalse();
+            }
+        }
+    }
+
+    private static boolean allRecorded(Queue<String> emails, MemberAvailabilityIndex... indexes) {
+        for (MemberAvailabilityIndex index : indexes) {
+            for (String email : emails) {
+                if (!index.mightContainEmail(email)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static MemberAvailabilityIndex newIndex(MemberRepository repository) {
+        return new MemberAvailabilityIndex(repository, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), true, 200_000, 0.01);
+    }
+
+    private static MemberRepository.MemberIdentifiers identifiers(String email, String nickname) {
+        return new MemberRepository.MemberIdentifiers() {
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getNickname() {
+                return nickname;
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.spring_boot_jwt_boilerplate.service.revocation;
+
+import com.example.spring_boot_jwt_boilerplate.config.JwtTokenProvider;
+import com.example.spring_boot_jwt_boilerplate.config.JwtTokenProviderFixture;
+import com.example.spring_boot_jwt_boilerplate.config.VerifiedToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationRegistryTest {
+
+    private final JwtTokenProvider provider = JwtTokenProviderFixture.create(60_000L, 3_600_000L);
+
+    @Test
+    void revokedTokenIdIsRejectedOthersAreNot() {
+        TokenRevocationRegistry registry = new TokenRevocationRegistry();
+        VerifiedToken revoked = verify(provider.createAccessToken(JwtTokenProviderFixture.member("user@test.com")));
+        VerifiedToken other = verify(provider.createAccessToken(JwtTokenProviderFixture.member("user@test.com")));
+
+        registry.revokeToken(revoked.getTokenId(), revoked.getExpiration());
+
+        assertThat(registry.isRevoked(revoked)).isTrue();
+        assertThat(registry.isRevoked(other)).isFalse();
+    }
+
+    @Test
+    void userEpochRevokesTokensIssuedBeforeIt() throws Exception {
+        TokenRevocationRegistry registry = new TokenRevocationRegistry();
+        VerifiedToken before = verify(provider.createAccessToken(JwtTokenProviderFixture.member("user@test.com")));
+
+        registry.revokeUser("user@test.com", System.currentTimeMillis());
+        TimeUnit.MILLISECONDS.sleep(1_100); // iat 는 초 단위
+        VerifiedToken after = verify(provider.createAccessToken(JwtTokenProviderFixture.member("user@test.com")));
+
+        assertThat(registry.isRevoked(before)).isTrue();
+        assertThat(registry.isRevoked(after)).isFalse();
+        assertThat(registry.isRevoked(verify(provider.createAccessToken(JwtTokenProviderFixture.member("other@test.com"))))).isFalse();
+    }
+
+    @Test
+    void purgeRemovesEntriesThatCanNoLongerMatch() {
+        TokenRevocationRegistry registry = new TokenRevocationRegistry();
+        long now = System.currentTimeMillis();
+        registry.revokeToken("expired", now - 1);
+        registry.revokeToken("alive", now + 60_000L);
+        registry.revokeUser("old@test.com", now - 120_000L);
+        registry.revokeUser("recent@test.com", now);
+
+        registry.purgeExpired(now, 60_000L);
+
+        assertThat(registry.revokedTokenCount()).isEqualTo(1);
+        assertThat(registry.revokedUserCount()).isEqualTo(1);
+    }
+
+    private VerifiedToken verify(String token) {
+        return provider.verify(token).getToken();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.spring_boot_jwt_boilerplate.service.revocation;
+
+import com.example.spring_boot_jwt_boilerplate.config.JwtTokenProvider;
+import com.example.spring_boot_jwt_boilerplate.config.JwtTokenProviderFixture;
+import com.example.spring_boot_jwt_boilerplate.config.VerifiedToken;
+import com.example.spring_boot_jwt_boilerplate.local.LocalRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class TokenRevocationServiceTest {
+
+    private LocalRedis redis;
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenRevocationRegistry registry;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = LocalRedis.start();
+        jwtTokenProvider = JwtTokenProviderFixture.create(60_000L, 3_600_000L);
+        registry = new TokenRevocationRegistry();
+        service = new TokenRevocationService(redis.template(), registry, jwtTokenProvider, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        redis.close();
+    }
+
+    @Test
+    void malformedKeysAreSkippedOnStartupLoad() {
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        redis.template().opsForValue().set("BL:J:good", String.valueOf(expiresAt));
+        redis.template().opsForValue().set("BL:J:broken", "not-a-number");
+        redis.template().opsForValue().set("BL:U:user@test.com", "");
+
+        service.loadFromRedis();
+
+        assertThat(registry.revokedTokenCount()).isEqualTo(1);
+        assertThat(registry.revokedUserCount()).isZero();
+    }
+
+    @Test
+    void malformedMessagesAreIgnored() {
+        assertThatCode(() -> {
+            service.onMessage(message("J not-a-number some-jti"), null);
+            service.onMessage(message("garbage"), null);
+        }).doesNotThrowAnyException();
+
+        service.onMessage(message("J " + (System.currentTimeMillis() + 60_000L) + " valid-jti"), null);
+        assertThat(registry.revokedTokenCount()).isEqualTo(1);
+    }
+
+    @Test
+    void revokedSessionDeniesOnlyThatSessionsAccessTokens() {
+        VerifiedToken stolen = accessToken("session-1");
+        VerifiedToken otherDevice = accessToken("session-2");
+
+        service.revokeSession("session-1");
+
+        assertThat(registry.isRevoked(stolen)).isTrue();
+        assertThat(registry.isRevoked(otherDevice)).isFalse();
+
+        // 재기동한 인스턴스도 Redis 에서 같은 세션 폐기를 적재
+        TokenRevocationRegistry restarted = new TokenRevocationRegistry();
+        new TokenRevocationService(redis.template(), restarted, jwtTokenProvider, new SimpleMeterRegistry()).loadFromRedis();
+        assertThat(restarted.isRevoked(stolen)).isTrue();
+        assertThat(restarted.isRevoked(otherDevice)).isFalse();
+    }
+
+    @Test
+    void sessionRevocationMessagesAreApplied() {
+        service.onMessage(message("S " + (System.currentTimeMillis() + 60_000L) + " session-1"), null);
+
+        assertThat(registry.revokedSessionCount()).isEqualTo(1);
+        assertThat(registry.isRevoked(accessToken("session-1"))).isTrue();
+    }
+
+    private VerifiedToken accessToken(String sessionId) {
+        String token = jwtTokenProvider.createAccessToken(JwtTokenProviderFixture.member("user@test.com"), sessionId);
+        return jwtTokenProvider.verify(token).getToken();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(TokenRevocationService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,10 @@
+-- replica 대역 H2 (ReplicaRoutingTest): primary 의 ddl-auto 가 만들지 않으므로 연결 시 직접 생성
+CREATE TABLE IF NOT EXISTS members (
+    id       BIGINT AUTO_INCREMENT PRIMARY KEY,
+    email    VARCHAR(50)  NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    nickname VARCHAR(20)  NOT NULL,
+    role     VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_members_email UNIQUE (email),
+    CONSTRAINT uk_members_nickname UNIQUE (nickname)
+);